@@ -0,0 +1,95 @@
+package org.example.apirest.mapper;
+
+import org.example.apirest.dto.evento.EventoWithParticipantesDTO;
+import org.example.apirest.dto.organizador.OrganizadorWithEventosDTO;
+import org.example.apirest.entity.Evento;
+import org.example.apirest.entity.Organizador;
+import org.example.apirest.entity.Participante;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private AnnotationConfigApplicationContext context;
+    private EventoMapper eventoMapper;
+    private OrganizadorMapper organizadorMapper;
+    private Evento evento;
+    private Organizador organizador;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(EventoMapper.class, OrganizadorMapper.class,
+                ParticipanteMapper.class);
+        eventoMapper = context.getBean(EventoMapper.class);
+        organizadorMapper = context.getBean(OrganizadorMapper.class);
+
+        organizador = new Organizador();
+        organizador.setId(1L);
+        organizador.setNombre("Laura Jiménez");
+        organizador.setEmail("laura.jimenez@eventos.com");
+        organizador.setTelefono("555-9001");
+
+        evento = evento(1L);
+        for (long id = 1; id <= size; id++) {
+            Participante participante = new Participante();
+            participante.setId(id);
+            participante.setNombre("Participante " + id);
+            participante.setEmail("participante" + id + "@email.com");
+            participante.setTelefono("555-" + id);
+            evento.addParticipante(participante);
+        }
+        for (long id = 2; id <= size + 1; id++) {
+            evento(id);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EventoWithParticipantesDTO eventoToWithParticipantesDTO() {
+        return eventoMapper.toWithParticipantesDTO(evento);
+    }
+
+    @Benchmark
+    public OrganizadorWithEventosDTO organizadorToWithEventosDTO() {
+        return organizadorMapper.toWithEventosDTO(organizador);
+    }
+
+    private Evento evento(long id) {
+        Evento nuevo = new Evento();
+        nuevo.setId(id);
+        nuevo.setTitulo("Taller de Fotografía " + id);
+        nuevo.setDescripcion("Aprende las técnicas básicas de fotografía digital.");
+        nuevo.setFecha(LocalDateTime.of(2025, 11, 20, 14, 0));
+        nuevo.setUbicacion("Estudio de Arte");
+        organizador.addEvento(nuevo);
+        return nuevo;
+    }
+}
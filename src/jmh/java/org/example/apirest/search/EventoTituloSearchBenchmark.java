@@ -0,0 +1,133 @@
+package org.example.apirest.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EventoTituloSearchBenchmark {
+
+    private static final int LIMIT = 20;
+
+    private static final String[] TIPOS = {
+            "Conferencia", "Taller", "Meetup", "Seminario", "Curso", "Jornada", "Hackathon", "Charla"};
+    private static final String[] TEMAS = {
+            "Java", "Spring Boot", "Fotografía", "Cocina", "Marketing Digital", "Kubernetes", "Diseño",
+            "Inteligencia Artificial", "Bases de Datos", "Música", "Emprendimiento", "Seguridad",
+            "Robótica", "Pintura", "Arquitectura", "Finanzas", "Yoga", "Teatro", "Astronomía", "Ajedrez"};
+    private static final String[] CIUDADES = {
+            "Madrid", "Barcelona", "Sevilla", "Valencia", "Bilbao", "Málaga", "Zaragoza", "Granada",
+            "Salamanca", "Córdoba"};
+
+    @Param({"100000", "1000000"})
+    private int eventos;
+
+    @Param({"fotograf", "taller de cocina sevilla", "kotlin"})
+    private String query;
+
+    private TrigramIndex index;
+    private Connection connection;
+    private PreparedStatement likeQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        index = new TrigramIndex();
+        connection = DriverManager.getConnection("jdbc:h2:mem:eventos-" + eventos + ";DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table eventos (id bigint primary key, titulo varchar(255) not null)");
+        }
+
+        Random random = new Random(42);
+        try (PreparedStatement insert = connection.prepareStatement("insert into eventos (id, titulo) values (?, ?)")) {
+            for (long id = 1; id <= eventos; id++) {
+                String titulo = TIPOS[random.nextInt(TIPOS.length)] + " de " + TEMAS[random.nextInt(TEMAS.length)]
+                        + " " + CIUDADES[random.nextInt(CIUDADES.length)] + " " + (2024 + random.nextInt(4));
+                index.put(id, titulo);
+                insert.setLong(1, id);
+                insert.setString(2, titulo);
+                insert.addBatch();
+                if (id % 10_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        // La misma consulta que findResponsesByTituloContaining, el respaldo mientras el índice no está listo
+        likeQuery = connection.prepareStatement("select id from eventos where lower(titulo) like lower(?) "
+                + "escape '\\' order by id fetch first " + LIMIT + " rows only");
+        checkSameMatches();
+    }
+
+    // Los dos lados deben encontrar los mismos títulos; solo cambia cuáles de ellos devuelven primero
+    private void checkSameMatches() throws SQLException {
+        Set<Long> indexMatches = new HashSet<>(index.search(query, eventos));
+        Set<Long> likeMatches = new HashSet<>();
+        try (PreparedStatement all = connection.prepareStatement(
+                "select id from eventos where lower(titulo) like lower(?) escape '\\'")) {
+            all.setString(1, "%" + query + "%");
+            try (ResultSet resultSet = all.executeQuery()) {
+                while (resultSet.next()) {
+                    likeMatches.add(resultSet.getLong(1));
+                }
+            }
+        }
+        if (!indexMatches.equals(likeMatches)) {
+            throw new IllegalStateException(String.format("El índice encuentra %d eventos y LIKE %d para '%s'",
+                    indexMatches.size(), likeMatches.size(), query));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> trigramIndex() {
+        return index.search(query, LIMIT);
+    }
+
+    @Benchmark
+    public List<Long> likeQuery() throws SQLException {
+        likeQuery.setString(1, "%" + query + "%");
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet resultSet = likeQuery.executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.apirest.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.LockModeType;
+import org.example.apirest.ApirestApplication;
+import org.example.apirest.entity.Evento;
+import org.example.apirest.exception.PreconditionFailedException;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConcurrentUpdateBenchmark {
+
+    @Param({"1", "64"})
+    private int eventos;
+
+    @Param({"0", "500"})
+    private long editMicros;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ApirestApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:concurrent-" + eventos + "-" + editMicros + ";DB_CLOSE_DELAY=-1",
+                        "--spring.sql.init.mode=never",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.update("insert into organizadores (id, nombre, email) values (1, 'Organizador', 'organizador@eventos.com')");
+        List<Object[]> filas = new ArrayList<>();
+        for (long id = 1; id <= eventos; id++) {
+            filas.add(new Object[]{id, "Evento " + id, "Descripción del evento"});
+        }
+        jdbc.batchUpdate("insert into eventos (id, titulo, descripcion, organizador_id) values (?, ?, ?, 1)", filas);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Evento optimistic(Conflicts conflicts) {
+        long id = ThreadLocalRandom.current().nextLong(1, eventos + 1);
+        String ubicacion = ubicacion();
+        while (true) {
+            Long version = transaction.execute(status -> entityManager.find(Evento.class, id).getVersion());
+            edit();
+            try {
+                return transaction.execute(status -> {
+                    Evento evento = entityManager.find(Evento.class, id);
+                    Versions.check("Evento", id, version, evento.getVersion());
+                    evento.setUbicacion(ubicacion);
+                    return evento;
+                });
+            } catch (PreconditionFailedException | OptimisticLockingFailureException ex) {
+                conflicts.retries++;
+            }
+        }
+    }
+
+    @Benchmark
+    public Evento pessimistic() {
+        long id = ThreadLocalRandom.current().nextLong(1, eventos + 1);
+        String ubicacion = ubicacion();
+        return transaction.execute(status -> {
+            Evento evento = entityManager.find(Evento.class, id, LockModeType.PESSIMISTIC_WRITE);
+            edit();
+            evento.setUbicacion(ubicacion);
+            return evento;
+        });
+    }
+
+    private void edit() {
+        if (editMicros > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(editMicros));
+        }
+    }
+
+    private static String ubicacion() {
+        return "Sala " + ThreadLocalRandom.current().nextInt(1_000_000);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Conflicts {
+
+        public long retries;
+    }
+}
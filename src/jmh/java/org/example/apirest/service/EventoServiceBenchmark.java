@@ -0,0 +1,116 @@
+package org.example.apirest.service;
+
+import org.example.apirest.ApirestApplication;
+import org.example.apirest.dto.evento.EventoResponseDTO;
+import org.example.apirest.dto.pagination.CountMode;
+import org.example.apirest.entity.Evento;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EventoServiceBenchmark {
+
+    private static final int ORGANIZADORES = 100;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000", "100000"})
+    private int eventos;
+
+    private ConfigurableApplicationContext context;
+    private EventoService eventoService;
+    private int pages;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ApirestApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmark-" + eventos + ";DB_CLOSE_DELAY=-1",
+                        "--spring.sql.init.mode=never",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+        eventoService = context.getBean(EventoService.class);
+        pages = eventos / PAGE_SIZE;
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        List<Object[]> organizadores = new ArrayList<>();
+        for (long id = 1; id <= ORGANIZADORES; id++) {
+            organizadores.add(new Object[]{id, "Organizador " + id, "organizador" + id + "@eventos.com", "555-" + id});
+        }
+        jdbc.batchUpdate("insert into organizadores (id, nombre, email, telefono) values (?, ?, ?, ?)",
+                organizadores);
+        List<Object[]> filas = new ArrayList<>();
+        Timestamp fecha = Timestamp.valueOf(LocalDateTime.of(2025, 11, 20, 14, 0));
+        for (long id = 1; id <= eventos; id++) {
+            filas.add(new Object[]{id, "Evento " + id, "Descripción del evento " + id, fecha, "Madrid",
+                    id % ORGANIZADORES + 1});
+            if (filas.size() == 10_000) {
+                insertEventos(jdbc, filas);
+            }
+        }
+        insertEventos(jdbc, filas);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Evento> findAll() {
+        return eventoService.findAll(randomPage());
+    }
+
+    @Benchmark
+    public Slice<EventoResponseDTO> findAllResponses() {
+        return eventoService.findAllResponses(randomPage(), CountMode.EXACT);
+    }
+
+    @Benchmark
+    public Slice<EventoResponseDTO> findAllResponsesWithoutCount() {
+        return eventoService.findAllResponses(randomPage(), CountMode.NONE);
+    }
+
+    private Pageable randomPage() {
+        return PageRequest.of(ThreadLocalRandom.current().nextInt(pages), PAGE_SIZE, Sort.by("id"));
+    }
+
+    private static void insertEventos(JdbcTemplate jdbc, List<Object[]> filas) {
+        jdbc.batchUpdate("insert into eventos (id, titulo, descripcion, fecha, ubicacion, organizador_id) " +
+                "values (?, ?, ?, ?, ?, ?)", filas);
+        filas.clear();
+    }
+}
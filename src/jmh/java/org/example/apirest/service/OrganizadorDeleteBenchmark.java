@@ -0,0 +1,108 @@
+package org.example.apirest.service;
+
+import org.example.apirest.ApirestApplication;
+import org.example.apirest.repository.OrganizadorRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class OrganizadorDeleteBenchmark {
+
+    private static final long ORGANIZADOR_ID = 1L;
+
+    @Param({"500"})
+    private int eventos;
+
+    @Param({"40", "400"})
+    private int participantesPorEvento;
+
+    private ConfigurableApplicationContext context;
+    private OrganizadorService organizadorService;
+    private OrganizadorRepository organizadorRepository;
+    private TransactionTemplate transaction;
+    private JdbcTemplate jdbc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ApirestApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:delete-" + participantesPorEvento + ";DB_CLOSE_DELAY=-1",
+                        "--spring.sql.init.mode=never",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+        organizadorService = context.getBean(OrganizadorService.class);
+        organizadorRepository = context.getBean(OrganizadorRepository.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbc = context.getBean(JdbcTemplate.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void insertOrganizador() {
+        jdbc.update("insert into organizadores (id, nombre, email) values (?, 'Organizador', 'organizador@eventos.com')",
+                ORGANIZADOR_ID);
+        List<Object[]> filas = new ArrayList<>();
+        for (long id = 1; id <= eventos; id++) {
+            filas.add(new Object[]{id, "Evento " + id, "Descripción", ORGANIZADOR_ID});
+        }
+        jdbc.batchUpdate("insert into eventos (id, titulo, descripcion, organizador_id) values (?, ?, ?, ?)", filas);
+        filas.clear();
+        long participanteId = 1;
+        for (long eventoId = 1; eventoId <= eventos; eventoId++) {
+            for (int i = 0; i < participantesPorEvento; i++, participanteId++) {
+                filas.add(new Object[]{participanteId, "Participante", "p" + participanteId + "@eventos.com", eventoId});
+            }
+            if (filas.size() >= 10_000) {
+                insertParticipantes(filas);
+            }
+        }
+        insertParticipantes(filas);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void cascade() {
+        transaction.executeWithoutResult(status -> organizadorRepository.deleteById(ORGANIZADOR_ID));
+    }
+
+    @Benchmark
+    public void setBased() {
+        organizadorService.deleteById(ORGANIZADOR_ID);
+    }
+
+    private void insertParticipantes(List<Object[]> filas) {
+        jdbc.batchUpdate("insert into participantes (id, nombre, email, evento_id) values (?, ?, ?, ?)", filas);
+        filas.clear();
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.apirest.service;
+
+import org.example.apirest.ApirestApplication;
+import org.example.apirest.entity.Evento;
+import org.example.apirest.entity.Participante;
+import org.example.apirest.repository.EventoRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RegistrationBenchmark {
+
+    private static final long EVENTO_ID = 1L;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private ParticipanteService participanteService;
+    private Evento evento;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ApirestApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:registration;DB_CLOSE_DELAY=-1",
+                        "--spring.sql.init.mode=never",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+        participanteService = context.getBean(ParticipanteService.class);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.update("insert into organizadores (id, nombre, email) values (1, 'Organizador', 'organizador@eventos.com')");
+        jdbc.update("insert into eventos (id, titulo, descripcion, ubicacion, capacidad, organizador_id) " +
+                "values (?, 'Evento con mucha demanda', 'Descripción', 'Madrid', ?, 1)", EVENTO_ID, 1_000_000);
+        evento = context.getBean(EventoRepository.class).findById(EVENTO_ID).orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Participante register() {
+        Participante participante = new Participante();
+        participante.setNombre("Participante");
+        participante.setEmail("participante" + sequence.incrementAndGet() + "@eventos.com");
+        participante.setEvento(evento);
+        return participanteService.save(participante);
+    }
+}
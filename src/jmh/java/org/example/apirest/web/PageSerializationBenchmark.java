@@ -0,0 +1,80 @@
+package org.example.apirest.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.apirest.dto.evento.EventoResponseDTO;
+import org.example.apirest.dto.organizador.OrganizadorResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PageSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<EventoResponseDTO> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        OrganizadorResponseDTO organizador = OrganizadorResponseDTO.builder()
+                .id(1L)
+                .nombre("Laura Jiménez")
+                .email("laura.jimenez@eventos.com")
+                .telefono("555-9001")
+                .build();
+        List<EventoResponseDTO> eventos = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            eventos.add(EventoResponseDTO.builder()
+                    .id(id)
+                    .titulo("Taller de Fotografía " + id)
+                    .descripcion("Aprende las técnicas básicas de fotografía digital.")
+                    .fecha(LocalDateTime.of(2025, 11, 20, 14, 0))
+                    .ubicacion("Estudio de Arte")
+                    .organizador(organizador)
+                    .build());
+        }
+        page = new PageImpl<>(eventos, PageRequest.of(0, pageSize, Sort.by("id")), 10_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeContent() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page.getContent());
+    }
+}
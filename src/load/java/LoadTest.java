@@ -0,0 +1,105 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("Uso: java src/load/java/LoadTest.java <url> <clientes> <segundos> [calentamiento]");
+            System.exit(1);
+        }
+        URI uri = URI.create(args[0]);
+        int clients = Integer.parseInt(args[1]);
+        Duration duration = Duration.ofSeconds(Long.parseLong(args[2]));
+        Duration warmup = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 5);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        long[][] latencies = new long[clients][];
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                Recorder recorder = new Recorder();
+                int slot = i;
+                executor.submit(() -> {
+                    try {
+                        while (true) {
+                            long sent = System.nanoTime();
+                            if (sent >= measureUntil) {
+                                break;
+                            }
+                            boolean ok;
+                            try {
+                                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+                            } catch (Exception e) {
+                                ok = false;
+                            }
+                            long received = System.nanoTime();
+                            if (ok && received >= measureFrom && received <= measureUntil) {
+                                completed.incrementAndGet();
+                            }
+                            if (sent < measureFrom) {
+                                continue;
+                            }
+                            if (ok) {
+                                recorder.add(received - sent);
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    } finally {
+                        latencies[slot] = recorder.toArray();
+                    }
+                });
+            }
+        }
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        double seconds = duration.toNanos() / 1e9;
+        System.out.printf("clientes=%d peticiones=%d errores=%d throughput=%.1f req/s p50=%.1f ms p99=%.1f ms max=%.1f ms%n",
+                clients, all.length, errors.get(), completed.get() / seconds,
+                percentile(all, 0.50), percentile(all, 0.99), all.length == 0 ? 0 : all[all.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static final class Recorder {
+
+        private long[] values = new long[256];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.apirest.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.apirest.event.ChangeType;
+import org.example.apirest.event.EventoChangedEvent;
+import org.example.apirest.event.OrganizadorChangedEvent;
+import org.example.apirest.event.ParticipanteChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+@Component
+public class EventoDetailCache {
+
+    static final String METRIC = "eventos.detail.requests";
+
+    private final ConcurrentMap<Long, Flight> flights = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Counter loaded;
+    private final Counter joined;
+    private final Counter cached;
+
+    public EventoDetailCache(@Value("${app.eventos.detail-cache.ttl:1s}") Duration ttl,
+                             @Value("${app.eventos.detail-cache.max-entries:10000}") int maxEntries,
+                             MeterRegistry meterRegistry) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.loaded = outcome(meterRegistry, "loaded");
+        this.joined = outcome(meterRegistry, "joined");
+        this.cached = outcome(meterRegistry, "cached");
+    }
+
+    public Detail get(Long eventoId, Supplier<Detail> loader) {
+        long now = System.nanoTime();
+        Flight created = new Flight();
+        Flight flight = flights.compute(eventoId,
+                (id, current) -> current != null && current.isUsable(now, ttlNanos) ? current : created);
+        if (flight != created) {
+            (flight.future.isDone() ? cached : joined).increment();
+            return flight.join();
+        }
+
+        loaded.increment();
+        evictIfFull(now);
+        try {
+            Detail detail = loader.get();
+            created.loadedAt = System.nanoTime();
+            created.future.complete(detail);
+            return detail;
+        } catch (RuntimeException e) {
+            flights.remove(eventoId, created);
+            created.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public Optional<Detail> peek(Long eventoId) {
+        Flight flight = flights.get(eventoId);
+        if (flight == null || !flight.future.isDone() || !flight.isUsable(System.nanoTime(), ttlNanos)) {
+            return Optional.empty();
+        }
+        cached.increment();
+        return Optional.of(flight.future.join());
+    }
+
+    public void invalidate(Long eventoId) {
+        flights.remove(eventoId);
+    }
+
+    public void invalidateAll() {
+        flights.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventoChanged(EventoChangedEvent event) {
+        if (event.type() != ChangeType.CREATED) {
+            invalidate(event.eventoId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipanteChanged(ParticipanteChangedEvent event) {
+        invalidate(event.eventoId());
+        if (event.eventoChanged()) {
+            invalidate(event.previousEventoId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganizadorChanged(OrganizadorChangedEvent event) {
+        if (event.type() != ChangeType.CREATED) {
+            invalidateAll();
+        }
+    }
+
+    private void evictIfFull(long now) {
+        if (flights.size() <= maxEntries) {
+            return;
+        }
+        flights.values().removeIf(flight -> !flight.isUsable(now, ttlNanos));
+        if (flights.size() > maxEntries) {
+            flights.clear();
+        }
+    }
+
+    private static Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(METRIC)
+                .description("Lecturas del detalle de evento según se carguen, se unan a una carga en curso o salgan de la microcaché")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    public record Detail(byte[] body, String etag) {
+    }
+
+    private static final class Flight {
+
+        private final CompletableFuture<Detail> future = new CompletableFuture<>();
+        private volatile long loadedAt;
+
+        boolean isUsable(long now, long ttlNanos) {
+            if (!future.isDone()) {
+                return true;
+            }
+            return !future.isCompletedExceptionally() && now - loadedAt < ttlNanos;
+        }
+
+        Detail join() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.apirest.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.apirest.event.ChangeType;
+import org.example.apirest.event.EventoChangedEvent;
+import org.example.apirest.event.OrganizadorChangedEvent;
+import org.example.apirest.event.ParticipanteChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+@Slf4j
+@Component
+public class TotalCountCache {
+
+    public static final String EVENTOS = "eventos";
+    public static final String ORGANIZADORES = "organizadores";
+    public static final String PARTICIPANTES = "participantes";
+
+    private static final String PARTICIPANTES_DE_EVENTO = "participantes:evento:";
+
+    private final ConcurrentMap<String, CachedCount> counts = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public TotalCountCache(@Value("${app.pagination.count-cache.ttl:10s}") Duration ttl,
+                           @Value("${app.pagination.count-cache.max-entries:10000}") int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    public static String participantesDeEvento(Long eventoId) {
+        return PARTICIPANTES_DE_EVENTO + eventoId;
+    }
+
+    public long get(String key, LongSupplier loader) {
+        long now = System.nanoTime();
+        CachedCount cached = counts.get(key);
+        if (cached != null && now - cached.loadedAt() < ttlNanos) {
+            return cached.value();
+        }
+
+        long generationBeforeLoad = generation.get();
+        long value = loader.getAsLong();
+        if (generation.get() == generationBeforeLoad) {
+            evictIfFull(now);
+            counts.put(key, new CachedCount(value, now));
+        }
+        return value;
+    }
+
+    public void invalidate(String key) {
+        generation.incrementAndGet();
+        counts.remove(key);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        counts.clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventoChanged(EventoChangedEvent event) {
+        if (event.type() == ChangeType.UPDATED) {
+            return;
+        }
+        invalidate(EVENTOS);
+        if (event.type() == ChangeType.DELETED) {
+            invalidate(PARTICIPANTES);
+            invalidate(participantesDeEvento(event.eventoId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganizadorChanged(OrganizadorChangedEvent event) {
+        if (event.type() == ChangeType.CREATED) {
+            invalidate(ORGANIZADORES);
+        } else if (event.type() == ChangeType.DELETED) {
+            log.debug("Organizador {} eliminado, se descartan todos los totales en caché", event.organizadorId());
+            invalidateAll();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipanteChanged(ParticipanteChangedEvent event) {
+        if (event.type() == ChangeType.UPDATED && !event.eventoChanged()) {
+            return;
+        }
+        if (event.type() != ChangeType.UPDATED) {
+            invalidate(PARTICIPANTES);
+        }
+        invalidate(participantesDeEvento(event.eventoId()));
+        if (event.eventoChanged()) {
+            invalidate(participantesDeEvento(event.previousEventoId()));
+        }
+    }
+
+    private void evictIfFull(long now) {
+        if (counts.size() < maxEntries) {
+            return;
+        }
+        counts.values().removeIf(cached -> now - cached.loadedAt() >= ttlNanos);
+        if (counts.size() >= maxEntries) {
+            counts.clear();
+        }
+    }
+
+    private record CachedCount(long value, long loadedAt) {
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.apirest.cache;
+
+import org.example.apirest.dto.evento.EventoResponseDTO;
+import org.example.apirest.event.ChangeType;
+import org.example.apirest.event.EventoChangedEvent;
+import org.example.apirest.event.OrganizadorChangedEvent;
+import org.example.apirest.event.ParticipanteChangedEvent;
+import org.example.apirest.repository.EventoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+public class UpcomingEventosCache {
+
+    private final EventoRepository eventoRepository;
+    private final int capacity;
+
+    private long generation;
+    private volatile Snapshot snapshot;
+
+    public UpcomingEventosCache(EventoRepository eventoRepository,
+                                @Value("${app.eventos.upcoming.capacity:100}") int capacity) {
+        this.eventoRepository = eventoRepository;
+        this.capacity = capacity;
+    }
+
+    public List<EventoResponseDTO> get(LocalDateTime now, int limit) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            List<EventoResponseDTO> upcoming = current.from(now);
+            if (upcoming.size() >= limit || current.complete()) {
+                return upcoming.subList(0, Math.min(limit, upcoming.size()));
+            }
+        }
+
+        long generationBeforeLoad;
+        synchronized (this) {
+            generationBeforeLoad = generation;
+        }
+        int size = Math.max(capacity, limit);
+        List<EventoResponseDTO> eventos = List.copyOf(
+                eventoRepository.findUpcomingResponses(now, PageRequest.ofSize(size)));
+        synchronized (this) {
+            if (generation == generationBeforeLoad) {
+                snapshot = new Snapshot(eventos, eventos.size() < size);
+            }
+        }
+        return eventos.subList(0, Math.min(limit, eventos.size()));
+    }
+
+    public synchronized void invalidate() {
+        generation++;
+        snapshot = null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventoChanged(EventoChangedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipanteChanged(ParticipanteChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> adjustNumParticipantes(event.eventoId(), 1);
+            case DELETED -> adjustNumParticipantes(event.eventoId(), -1);
+            case UPDATED -> {
+                if (event.eventoChanged()) {
+                    adjustNumParticipantes(event.previousEventoId(), -1);
+                    adjustNumParticipantes(event.eventoId(), 1);
+                }
+            }
+        }
+    }
+
+    // Una inscripción solo mueve el contador: se corrige esa entrada en vez de recargar la lista entera
+    private synchronized void adjustNumParticipantes(Long eventoId, int delta) {
+        generation++;
+        Snapshot current = snapshot;
+        if (current != null && current.contains(eventoId)) {
+            snapshot = current.withNumParticipantes(eventoId, delta);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganizadorChanged(OrganizadorChangedEvent event) {
+        if (event.type() != ChangeType.CREATED) {
+            invalidate();
+        }
+    }
+
+    private record Snapshot(List<EventoResponseDTO> eventos, Set<Long> ids, boolean complete) {
+
+        Snapshot(List<EventoResponseDTO> eventos, boolean complete) {
+            this(eventos, eventos.stream().map(EventoResponseDTO::getId).collect(Collectors.toUnmodifiableSet()),
+                    complete);
+        }
+
+        boolean contains(Long eventoId) {
+            return ids.contains(eventoId);
+        }
+
+        // Las listas ya devueltas comparten los DTO, así que la entrada cambiada es una copia
+        Snapshot withNumParticipantes(Long eventoId, int delta) {
+            List<EventoResponseDTO> updated = eventos.stream()
+                    .map(evento -> !evento.getId().equals(eventoId) ? evento : new EventoResponseDTO(
+                            evento.getId(), evento.getTitulo(), evento.getDescripcion(), evento.getFecha(),
+                            evento.getUbicacion(), evento.getCapacidad(), evento.getNumParticipantes() + delta,
+                            evento.getOrganizador()))
+                    .toList();
+            return new Snapshot(updated, ids, complete);
+        }
+
+        List<EventoResponseDTO> from(LocalDateTime now) {
+            int low = 0;
+            int high = eventos.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (eventos.get(mid).getFecha().isBefore(now)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return eventos.subList(low, eventos.size());
+        }
+    }
+}
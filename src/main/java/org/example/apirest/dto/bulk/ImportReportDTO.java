@@ -0,0 +1,22 @@
+package org.example.apirest.dto.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReportDTO {
+    private long processed;
+    private long imported;
+    private long failed;
+    private boolean errorsTruncated;
+    @Builder.Default
+    private List<ImportErrorDTO> errors = new ArrayList<>();
+}
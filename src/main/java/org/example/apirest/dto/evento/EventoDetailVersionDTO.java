@@ -0,0 +1,20 @@
+package org.example.apirest.dto.evento;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoDetailVersionDTO {
+    private Long eventoVersion;
+    private Long organizadorVersion;
+    private Long rosterVersion;
+
+    public String toETag() {
+        return eventoVersion + "-" + organizadorVersion + "-" + rosterVersion;
+    }
+}
@@ -1,6 +1,8 @@
 package org.example.apirest.dto.evento;
 
 import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -31,6 +33,10 @@ public class EventoRequestDTO {
     @Size(max = 200, message = "La ubicación no puede tener más de 200 caracteres")
     private String ubicacion;
 
+    @Min(value = 1, message = "La capacidad debe ser de al menos 1 plaza")
+    @Max(value = 1000000, message = "La capacidad no puede superar 1000000 plazas")
+    private Integer capacidad;
+
     @NotNull(message = "El ID del organizador es obligatorio")
     private Long organizadorId;
 }
@@ -22,5 +22,15 @@ public class EventoResponseDTO {
     private LocalDateTime fecha;
 
     private String ubicacion;
+    private Integer capacidad;
+    private int numParticipantes;
     private OrganizadorResponseDTO organizador;
+
+    public EventoResponseDTO(Long id, String titulo, String descripcion, LocalDateTime fecha, String ubicacion,
+                             Integer capacidad, int numParticipantes,
+                             Long organizadorId, String organizadorNombre, String organizadorEmail,
+                             String organizadorTelefono) {
+        this(id, titulo, descripcion, fecha, ubicacion, capacidad, numParticipantes,
+                new OrganizadorResponseDTO(organizadorId, organizadorNombre, organizadorEmail, organizadorTelefono));
+    }
 }
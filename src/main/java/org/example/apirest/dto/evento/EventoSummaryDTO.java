@@ -20,4 +20,5 @@ public class EventoSummaryDTO {
     private LocalDateTime fecha;
 
     private String ubicacion;
+    private int numParticipantes;
 }
@@ -24,6 +24,8 @@ public class EventoWithParticipantesDTO {
     private LocalDateTime fecha;
 
     private String ubicacion;
+    private Integer capacidad;
+    private int numParticipantes;
     private OrganizadorResponseDTO organizador;
     private List<ParticipanteResponseDTO> participantes;
 }
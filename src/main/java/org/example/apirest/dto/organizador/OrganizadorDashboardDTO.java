@@ -0,0 +1,31 @@
+package org.example.apirest.dto.organizador;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.apirest.dto.evento.EventoSummaryDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizadorDashboardDTO {
+    private Long id;
+    private String nombre;
+    private String email;
+    private String telefono;
+    private long totalEventos;
+    private long totalParticipantes;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime proximoEvento;
+
+    private List<EventoSummaryDTO> eventos;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,31 @@
+package org.example.apirest.dto.pagination;
+
+import org.example.apirest.exception.BusinessRuleException;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public enum CountMode {
+    EXACT("exact"),
+    CACHED("cached"),
+    NONE("none");
+
+    private final String value;
+
+    CountMode(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static CountMode from(String value) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new BusinessRuleException(String.format(
+                        "Modo de conteo no válido: '%s'. Valores permitidos: %s", value,
+                        Arrays.stream(values()).map(CountMode::getValue).collect(Collectors.joining(", ")))));
+    }
+}
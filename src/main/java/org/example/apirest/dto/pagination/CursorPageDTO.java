@@ -0,0 +1,19 @@
+package org.example.apirest.dto.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> content;
+    private int limit;
+    private boolean hasNext;
+    private String nextCursor;
+}
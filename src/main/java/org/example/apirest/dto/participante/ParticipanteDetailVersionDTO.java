@@ -0,0 +1,19 @@
+package org.example.apirest.dto.participante;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipanteDetailVersionDTO {
+    private Long participanteVersion;
+    private Long eventoVersion;
+
+    public String toETag() {
+        return participanteVersion + "-" + eventoVersion;
+    }
+}
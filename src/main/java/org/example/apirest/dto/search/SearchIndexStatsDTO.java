@@ -0,0 +1,19 @@
+package org.example.apirest.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchIndexStatsDTO {
+    private boolean ready;
+    private int documents;
+    private int trigrams;
+    private long postings;
+    private long estimatedBytes;
+    private long bytesPerDocument;
+}
@@ -2,11 +2,16 @@ package org.example.apirest.entity;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -14,7 +19,13 @@ import java.util.List;
 
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
 @Entity
-@Table(name = "eventos")
+@Table(name = "eventos", indexes = {
+        @Index(name = "idx_eventos_fecha_id", columnList = "fecha, id"),
+        @Index(name = "idx_eventos_organizador_fecha", columnList = "organizador_id, fecha")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "eventos")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -38,7 +49,24 @@ public class Evento {
     @Column (nullable = true)
     private String ubicacion;
 
+    @Column (nullable = true)
+    @Min(value = 1, message = "La capacidad debe ser de al menos 1 plaza")
+    @Max(value = 1000000, message = "La capacidad no puede superar 1000000 plazas")
+    private Integer capacidad;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    @JsonIgnore
+    private EventoContador contador;
+
+    @Version
+    @Column (nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     @OneToMany(mappedBy = "evento", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "evento-participantes")
     @JsonManagedReference
     private List<Participante> participantes = new ArrayList<>();
 
@@ -0,0 +1,36 @@
+package org.example.apirest.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Immutable;
+
+// Contadores que mantienen los UPDATE nativos de la reserva de plazas. Viven en la misma
+// fila que el evento pero fuera de su estado cacheado en segundo nivel, así que nunca se
+// leen de una copia antigua.
+@Entity
+@Immutable
+@Table(name = "eventos")
+@Getter
+@NoArgsConstructor
+public class EventoContador {
+
+    // Misma definición que Evento.id: las dos entidades generan juntas la tabla
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column (name = "num_participantes", nullable = false)
+    @ColumnDefault("0")
+    private int numParticipantes;
+
+    @Column (name = "roster_version", nullable = false)
+    @ColumnDefault("0")
+    private long rosterVersion;
+}
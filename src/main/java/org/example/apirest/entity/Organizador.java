@@ -8,27 +8,38 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "organizadores")
+@Table(name = "organizadores", uniqueConstraints = @UniqueConstraint(
+        name = Organizador.EMAIL_UNIQUE, columnNames = "email"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "organizadores")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Organizador {
 
+    public static final String EMAIL_UNIQUE = "uk_organizadores_email";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "organizadores_seq")
+    @SequenceGenerator(name = "organizadores_seq", sequenceName = "organizadores_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
     @NotBlank(message = "El nombre es obligatorio")
     private String nombre;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     @NotBlank(message = "El email es obligatorio")
     @Email(message = "El email debe de ser válido")
     private String email;
@@ -36,7 +47,13 @@ public class Organizador {
     @Column(nullable = true)
     private String telefono;
 
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     @OneToMany(mappedBy = "organizador", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "organizador-eventos")
     @JsonManagedReference(value = "organizador-eventos")
     private List<Evento> eventos = new ArrayList<>();
 
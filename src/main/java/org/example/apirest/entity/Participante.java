@@ -8,24 +8,36 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
-@Table (name = "participantes")
+@Table (name = "participantes", uniqueConstraints = @UniqueConstraint(
+        name = Participante.EMAIL_EVENTO_UNIQUE, columnNames = {"email", "evento_id"}),
+        indexes = @Index(name = "idx_participantes_evento_lista", columnList = "evento_id, id, nombre, email, telefono"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "participantes")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Participante {
 
+    public static final String EMAIL_EVENTO_UNIQUE = "uk_participantes_email_evento";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "participantes_seq")
+    @SequenceGenerator(name = "participantes_seq", sequenceName = "participantes_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
     @NotBlank(message = "El nombre es obligatorio")
     private String nombre;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     @NotBlank(message = "El email es obligatorio")
     @Email(message = "El email debe de ser válido")
     private String email;
@@ -33,6 +45,11 @@ public class Participante {
     @Column(nullable = true)
     private String telefono;
 
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "evento_id", nullable = false)
     @JsonBackReference
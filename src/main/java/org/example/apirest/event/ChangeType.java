@@ -0,0 +1,7 @@
+package org.example.apirest.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,8 @@
+package org.example.apirest.event;
+
+public record EventoChangedEvent(Long eventoId, String titulo, ChangeType type) {
+
+    public EventoChangedEvent(Long eventoId, ChangeType type) {
+        this(eventoId, null, type);
+    }
+}
@@ -0,0 +1,4 @@
+package org.example.apirest.event;
+
+public record OrganizadorChangedEvent(Long organizadorId, ChangeType type) {
+}
@@ -0,0 +1,17 @@
+package org.example.apirest.event;
+
+public record ParticipanteChangedEvent(Long participanteId, Long eventoId, Long previousEventoId, String email,
+                                       ChangeType type) {
+
+    public ParticipanteChangedEvent(Long participanteId, Long eventoId, String email, ChangeType type) {
+        this(participanteId, eventoId, eventoId, email, type);
+    }
+
+    public ParticipanteChangedEvent(Long participanteId, Long eventoId, ChangeType type) {
+        this(participanteId, eventoId, eventoId, null, type);
+    }
+
+    public boolean eventoChanged() {
+        return previousEventoId != null && !previousEventoId.equals(eventoId);
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.apirest.exception;
+
+public class CapacityExceededException extends RuntimeException {
+
+    public CapacityExceededException(Long eventoId) {
+        super(String.format("El evento %d no tiene plazas disponibles", eventoId));
+    }
+}
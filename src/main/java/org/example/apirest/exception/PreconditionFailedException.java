@@ -0,0 +1,13 @@
+package org.example.apirest.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String resourceName, Long id, Long expectedVersion, Long currentVersion) {
+        super(String.format("%s con id %d ha sido modificado: versión esperada %d, versión actual %d",
+                resourceName, id, expectedVersion, currentVersion));
+    }
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
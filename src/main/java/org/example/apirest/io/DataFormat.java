@@ -0,0 +1,37 @@
+package org.example.apirest.io;
+
+import org.example.apirest.exception.BusinessRuleException;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public enum DataFormat {
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String value;
+    private final MediaType mediaType;
+
+    DataFormat(String value, MediaType mediaType) {
+        this.value = value;
+        this.mediaType = mediaType;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static DataFormat from(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new BusinessRuleException(String.format(
+                        "Formato no válido: '%s'. Valores permitidos: %s", value,
+                        Arrays.stream(values()).map(DataFormat::getValue).collect(Collectors.joining(", ")))));
+    }
+}
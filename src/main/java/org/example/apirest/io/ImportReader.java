@@ -0,0 +1,160 @@
+package org.example.apirest.io;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ImportReader<T> implements Closeable {
+
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private final DataFormat format;
+    private final BufferedReader reader;
+    private final Class<T> type;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader jsonReader;
+
+    private List<String> header;
+    private long line = 1;
+    private boolean eof;
+
+    public ImportReader(DataFormat format, InputStream input, Class<T> type, ObjectMapper objectMapper) {
+        this.format = format;
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.type = type;
+        this.objectMapper = objectMapper;
+        this.jsonReader = objectMapper.readerFor(type);
+    }
+
+    public ImportRecord<T> next() throws IOException {
+        while (!eof) {
+            long start = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            String error = readRecord(fields, field);
+            if (error != null) {
+                return new ImportRecord<>(start, null, error);
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            if (format == DataFormat.NDJSON) {
+                return parseJson(start, fields.get(0));
+            }
+            if (header == null) {
+                header = fields.stream().map(String::strip).toList();
+                continue;
+            }
+            return parseCsv(start, fields);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String readRecord(List<String> fields, StringBuilder field) throws IOException {
+        boolean csv = format == DataFormat.CSV;
+        boolean quoted = false;
+        int length = 0;
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (++length > MAX_RECORD_LENGTH) {
+                skipRecord(quoted);
+                return String.format("El registro supera el máximo de %d caracteres", MAX_RECORD_LENGTH);
+            }
+            if (c == '\n') {
+                line++;
+            }
+            if (csv && quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '\n') {
+                fields.add(stripCarriageReturn(field));
+                return null;
+            } else if (csv && c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (csv && c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append((char) c);
+            }
+        }
+        eof = true;
+        fields.add(stripCarriageReturn(field));
+        return quoted ? "Comillas sin cerrar al final del fichero" : null;
+    }
+
+    private void skipRecord(boolean quoted) throws IOException {
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == '\n') {
+                line++;
+                if (!quoted || format == DataFormat.NDJSON) {
+                    return;
+                }
+            }
+        }
+        eof = true;
+    }
+
+    private ImportRecord<T> parseJson(long start, String json) {
+        try {
+            T value = jsonReader.readValue(json);
+            return value == null
+                    ? new ImportRecord<>(start, null, "El registro está vacío")
+                    : new ImportRecord<>(start, value, null);
+        } catch (JacksonException e) {
+            return new ImportRecord<>(start, null, "JSON no válido: " + e.getOriginalMessage());
+        }
+    }
+
+    private ImportRecord<T> parseCsv(long start, List<String> fields) {
+        if (fields.size() != header.size()) {
+            return new ImportRecord<>(start, null, String.format(
+                    "Se esperaban %d columnas y hay %d", header.size(), fields.size()));
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            values.put(header.get(i), fields.get(i).isEmpty() ? null : fields.get(i));
+        }
+        try {
+            return new ImportRecord<>(start, objectMapper.convertValue(values, type), null);
+        } catch (IllegalArgumentException e) {
+            return new ImportRecord<>(start, null, "Valores no válidos: " + e.getMessage());
+        }
+    }
+
+    private static String stripCarriageReturn(StringBuilder field) {
+        int end = field.length();
+        if (end > 0 && field.charAt(end - 1) == '\r') {
+            end--;
+        }
+        return field.substring(0, end);
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.apirest.io;
+
+public record ImportRecord<T>(long line, T value, String error) {
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.apirest.io;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.apirest.dto.participante.ParticipanteResponseDTO;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public class ParticipanteExportWriter implements Flushable {
+
+    static final String CSV_HEADER = "id,nombre,email,telefono";
+
+    private final Writer writer;
+    private final JsonGenerator generator;
+    private final ObjectWriter jsonWriter;
+    private long rows;
+
+    public ParticipanteExportWriter(DataFormat format, OutputStream output, ObjectMapper objectMapper) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        try {
+            if (format == DataFormat.CSV) {
+                this.generator = null;
+                this.jsonWriter = null;
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            } else {
+                this.generator = objectMapper.getFactory().createGenerator(writer);
+                this.generator.setRootValueSeparator(null);
+                this.jsonWriter = objectMapper.writerFor(ParticipanteResponseDTO.class)
+                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void write(ParticipanteResponseDTO participante) {
+        try {
+            if (generator != null) {
+                jsonWriter.writeValue(generator, participante);
+                generator.writeRaw('\n');
+            } else {
+                writer.write(String.valueOf(participante.getId()));
+                writer.write(',');
+                writer.write(csv(participante.getNombre()));
+                writer.write(',');
+                writer.write(csv(participante.getEmail()));
+                writer.write(',');
+                writer.write(csv(participante.getTelefono()));
+                writer.write('\n');
+            }
+            rows++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (generator != null) {
+            generator.flush();
+        }
+        writer.flush();
+    }
+
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
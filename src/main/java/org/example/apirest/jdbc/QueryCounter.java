@@ -0,0 +1,21 @@
+package org.example.apirest.jdbc;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+public final class QueryCounter {
+
+    static final String DATA_SOURCE_NAME = "apirest";
+
+    private QueryCounter() {
+    }
+
+    public static void reset() {
+        QueryCountHolder.clear();
+    }
+
+    public static long count() {
+        QueryCount queryCount = QueryCountHolder.get(DATA_SOURCE_NAME);
+        return queryCount == null ? 0 : queryCount.getTotal();
+    }
+}
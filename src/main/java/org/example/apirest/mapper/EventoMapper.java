@@ -1,5 +1,6 @@
 package org.example.apirest.mapper;
 
+import org.example.apirest.dto.evento.EventoDetailVersionDTO;
 import org.example.apirest.dto.evento.EventoRequestDTO;
 import org.example.apirest.dto.evento.EventoResponseDTO;
 import org.example.apirest.dto.evento.EventoSummaryDTO;
@@ -29,10 +30,22 @@ public class EventoMapper {
         evento.setDescripcion(dto.getDescripcion());
         evento.setFecha(dto.getFecha());
         evento.setUbicacion(dto.getUbicacion());
+        evento.setCapacidad(dto.getCapacidad());
         evento.setOrganizador(organizador);
         return evento;
     }
 
+    public EventoRequestDTO toRequestDTO(Evento entity) {
+        return EventoRequestDTO.builder()
+                .titulo(entity.getTitulo())
+                .descripcion(entity.getDescripcion())
+                .fecha(entity.getFecha())
+                .ubicacion(entity.getUbicacion())
+                .capacidad(entity.getCapacidad())
+                .organizadorId(entity.getOrganizador().getId())
+                .build();
+    }
+
     public EventoResponseDTO toResponseDTO(Evento entity) {
         return EventoResponseDTO.builder()
                 .id(entity.getId())
@@ -40,6 +53,8 @@ public class EventoMapper {
                 .descripcion(entity.getDescripcion())
                 .fecha(entity.getFecha())
                 .ubicacion(entity.getUbicacion())
+                .capacidad(entity.getCapacidad())
+                .numParticipantes(numParticipantes(entity))
                 .organizador(organizadorMapper.toResponseDTO(entity.getOrganizador()))
                 .build();
     }
@@ -50,6 +65,7 @@ public class EventoMapper {
                 .titulo(entity.getTitulo())
                 .fecha(entity.getFecha())
                 .ubicacion(entity.getUbicacion())
+                .numParticipantes(numParticipantes(entity))
                 .build();
     }
 
@@ -60,6 +76,8 @@ public class EventoMapper {
                 .descripcion(entity.getDescripcion())
                 .fecha(entity.getFecha())
                 .ubicacion(entity.getUbicacion())
+                .capacidad(entity.getCapacidad())
+                .numParticipantes(numParticipantes(entity))
                 .organizador(organizadorMapper.toResponseDTO(entity.getOrganizador()))
                 .participantes(entity.getParticipantes() != null ?
                         entity.getParticipantes().stream()
@@ -69,6 +87,14 @@ public class EventoMapper {
                 .build();
     }
 
+    public EventoDetailVersionDTO toDetailVersionDTO(Evento entity) {
+        return EventoDetailVersionDTO.builder()
+                .eventoVersion(entity.getVersion())
+                .organizadorVersion(entity.getOrganizador().getVersion())
+                .rosterVersion(rosterVersion(entity))
+                .build();
+    }
+
     public void updateEntityFromDTO(EventoRequestDTO dto, Evento entity, Organizador organizador) {
         entity.setTitulo(dto.getTitulo());
         entity.setDescripcion(dto.getDescripcion());
@@ -76,4 +102,13 @@ public class EventoMapper {
         entity.setUbicacion(dto.getUbicacion());
         entity.setOrganizador(organizador);
     }
+
+    // Un evento recién insertado aún no tiene cargados sus contadores: empieza sin inscritos
+    private static int numParticipantes(Evento entity) {
+        return entity.getContador() != null ? entity.getContador().getNumParticipantes() : 0;
+    }
+
+    private static long rosterVersion(Evento entity) {
+        return entity.getContador() != null ? entity.getContador().getRosterVersion() : 0L;
+    }
 }
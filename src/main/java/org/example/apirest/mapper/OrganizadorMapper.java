@@ -1,12 +1,16 @@
 package org.example.apirest.mapper;
 
+import org.example.apirest.dto.evento.EventoSummaryDTO;
+import org.example.apirest.dto.organizador.OrganizadorDashboardDTO;
 import org.example.apirest.dto.organizador.OrganizadorRequestDTO;
 import org.example.apirest.dto.organizador.OrganizadorResponseDTO;
 import org.example.apirest.dto.organizador.OrganizadorWithEventosDTO;
 import org.example.apirest.entity.Organizador;
+import org.example.apirest.repository.OrganizadorDashboardRow;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Component
@@ -26,6 +30,14 @@ public class OrganizadorMapper {
         return organizador;
     }
 
+    public OrganizadorRequestDTO toRequestDTO(Organizador entity) {
+        return OrganizadorRequestDTO.builder()
+                .nombre(entity.getNombre())
+                .email(entity.getEmail())
+                .telefono(entity.getTelefono())
+                .build();
+    }
+
     public OrganizadorResponseDTO toResponseDTO(Organizador entity) {
         return OrganizadorResponseDTO.builder()
                 .id(entity.getId())
@@ -49,6 +61,29 @@ public class OrganizadorMapper {
                 .build();
     }
 
+    public OrganizadorDashboardDTO toDashboardDTO(List<OrganizadorDashboardRow> rows) {
+        OrganizadorDashboardRow organizador = rows.get(0);
+        return OrganizadorDashboardDTO.builder()
+                .id(organizador.getId())
+                .nombre(organizador.getNombre())
+                .email(organizador.getEmail())
+                .telefono(organizador.getTelefono())
+                .totalEventos(organizador.getTotalEventos())
+                .totalParticipantes(organizador.getTotalParticipantes())
+                .proximoEvento(organizador.getProximoEvento())
+                .eventos(rows.stream()
+                        .filter(row -> row.getEventoId() != null)
+                        .map(row -> EventoSummaryDTO.builder()
+                                .id(row.getEventoId())
+                                .titulo(row.getTitulo())
+                                .fecha(row.getFecha())
+                                .ubicacion(row.getUbicacion())
+                                .numParticipantes(row.getNumParticipantes())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
     public void updateEntityFromDTO(OrganizadorRequestDTO dto, Organizador entity) {
         entity.setNombre(dto.getNombre());
         entity.setEmail(dto.getEmail());
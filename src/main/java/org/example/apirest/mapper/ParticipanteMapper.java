@@ -1,5 +1,6 @@
 package org.example.apirest.mapper;
 
+import org.example.apirest.dto.participante.ParticipanteDetailVersionDTO;
 import org.example.apirest.dto.participante.ParticipanteRequestDTO;
 import org.example.apirest.dto.participante.ParticipanteResponseDTO;
 import org.example.apirest.dto.participante.ParticipanteWithEventoDTO;
@@ -26,6 +27,15 @@ public class ParticipanteMapper {
         return participante;
     }
 
+    public ParticipanteRequestDTO toRequestDTO(Participante entity) {
+        return ParticipanteRequestDTO.builder()
+                .nombre(entity.getNombre())
+                .email(entity.getEmail())
+                .telefono(entity.getTelefono())
+                .eventoId(entity.getEvento().getId())
+                .build();
+    }
+
     public ParticipanteResponseDTO toResponseDTO(Participante entity) {
         return ParticipanteResponseDTO.builder()
                 .id(entity.getId())
@@ -45,6 +55,13 @@ public class ParticipanteMapper {
                 .build();
     }
 
+    public ParticipanteDetailVersionDTO toDetailVersionDTO(Participante entity) {
+        return ParticipanteDetailVersionDTO.builder()
+                .participanteVersion(entity.getVersion())
+                .eventoVersion(entity.getEvento().getVersion())
+                .build();
+    }
+
     public void updateEntityFromDTO(ParticipanteRequestDTO dto, Participante entity, Evento evento) {
         entity.setNombre(dto.getNombre());
         entity.setEmail(dto.getEmail());
@@ -1,12 +1,131 @@
 package org.example.apirest.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.apirest.dto.evento.EventoDetailVersionDTO;
+import org.example.apirest.dto.evento.EventoResponseDTO;
+import org.example.apirest.dto.evento.EventoSummaryDTO;
 import org.example.apirest.entity.Evento;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EventoRepository extends JpaRepository<Evento, Long> {
+
+    String RESPONSE_SELECT = "select new org.example.apirest.dto.evento.EventoResponseDTO(" +
+            "e.id, e.titulo, e.descripcion, e.fecha, e.ubicacion, e.capacidad, c.numParticipantes, " +
+            "o.id, o.nombre, o.email, o.telefono) " +
+            "from Evento e join e.organizador o join e.contador c";
+
+    String NUM_PARTICIPANTES_SPACE = "eventos_num_participantes";
+
     List <Evento> findByTituloContainingIgnoreCase(String titulo);
+
+    @EntityGraph(attributePaths = {"organizador", "participantes", "contador"})
+    Optional<Evento> findWithOrganizadorAndParticipantesById(Long id);
+
+    @Query(value = RESPONSE_SELECT, countQuery = "select count(e) from Evento e")
+    Page<EventoResponseDTO> findAllResponses(Pageable pageable);
+
+    @Query(RESPONSE_SELECT)
+    Slice<EventoResponseDTO> findSliceOfResponses(Pageable pageable);
+
+    @Query(RESPONSE_SELECT + " where e.id > :afterId order by e.id")
+    Slice<EventoResponseDTO> findResponsesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(RESPONSE_SELECT + " where e.fecha >= :afterFecha and e.fecha < :to " +
+            "and (e.fecha > :afterFecha or e.id > :afterId) " +
+            "and (:ubicacion is null or lower(e.ubicacion) = lower(:ubicacion)) order by e.fecha, e.id")
+    Slice<EventoResponseDTO> findResponsesByFechaAfter(@Param("afterFecha") LocalDateTime afterFecha,
+                                                       @Param("afterId") Long afterId,
+                                                       @Param("to") LocalDateTime to,
+                                                       @Param("ubicacion") String ubicacion,
+                                                       Pageable pageable);
+
+    @Query(RESPONSE_SELECT + " where e.fecha >= :from order by e.fecha, e.id")
+    List<EventoResponseDTO> findUpcomingResponses(@Param("from") LocalDateTime from, Pageable pageable);
+
+    @Query("select new org.example.apirest.dto.evento.EventoDetailVersionDTO(e.version, o.version, c.rosterVersion) " +
+            "from Evento e join e.organizador o join e.contador c where e.id = :id")
+    Optional<EventoDetailVersionDTO> findDetailVersionById(@Param("id") Long id);
+
+    @Query("select e.version from Evento e where e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from Evento e where e.id = :id and e.version = :version")
+    int deleteByIdAndVersion(@Param("id") Long id, @Param("version") Long version);
+
+    @Query(RESPONSE_SELECT + " where e.id in :ids")
+    List<EventoResponseDTO> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(RESPONSE_SELECT + " where lower(e.titulo) like lower(concat('%', :titulo, '%')) order by e.id")
+    List<EventoResponseDTO> findResponsesByTituloContaining(@Param("titulo") String titulo, Pageable pageable);
+
+    @Query("select e.id as id, e.titulo as text from Evento e where e.id > :afterId order by e.id")
+    List<IndexableText> findTitulosAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select new org.example.apirest.dto.evento.EventoSummaryDTO(" +
+            "e.id, e.titulo, e.fecha, e.ubicacion, c.numParticipantes) " +
+            "from Evento e join e.contador c where e.organizador.id = :organizadorId order by e.id")
+    List<EventoSummaryDTO> findSummariesByOrganizadorId(@Param("organizadorId") Long organizadorId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NUM_PARTICIPANTES_SPACE))
+    @Query(value = "update eventos set num_participantes = num_participantes + :plazas, " +
+            "roster_version = roster_version + 1 " +
+            "where id = :id and (capacidad is null or num_participantes + :plazas <= capacidad)", nativeQuery = true)
+    int reservePlazas(@Param("id") Long id, @Param("plazas") int plazas);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NUM_PARTICIPANTES_SPACE))
+    @Query(value = "update eventos set num_participantes = num_participantes - :plazas, " +
+            "roster_version = roster_version + 1 " +
+            "where id = :id", nativeQuery = true)
+    int releasePlazas(@Param("id") Long id, @Param("plazas") int plazas);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NUM_PARTICIPANTES_SPACE))
+    @Query(value = "update eventos set roster_version = roster_version + 1 where id = :id",
+            nativeQuery = true)
+    int incrementRosterVersion(@Param("id") Long id);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NUM_PARTICIPANTES_SPACE))
+    @Query(value = "update eventos set capacidad = :capacidad where id = :id and num_participantes <= :capacidad",
+            nativeQuery = true)
+    int updateCapacidad(@Param("id") Long id, @Param("capacidad") int capacidad);
+
+    @Query("select c.numParticipantes from EventoContador c where c.id = :id")
+    Optional<Integer> findNumParticipantesById(@Param("id") Long id);
+
+    @Query("select e.id from Evento e where e.organizador.id = :organizadorId order by e.id")
+    List<Long> findIdsByOrganizadorId(@Param("organizadorId") Long organizadorId);
+
+    @Query("select e.id from Evento e where e.id > :afterId order by e.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "eventos"))
+    @Query(value = "update eventos e set num_participantes = " +
+            "(select count(*) from participantes p where p.evento_id = e.id), " +
+            "roster_version = roster_version + 1 " +
+            "where e.id between :fromId and :toId and e.num_participantes <> " +
+            "(select count(*) from participantes p where p.evento_id = e.id)", nativeQuery = true)
+    int repairNumParticipantes(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -0,0 +1,8 @@
+package org.example.apirest.repository;
+
+public interface IndexableText {
+
+    Long getId();
+
+    String getText();
+}
@@ -0,0 +1,30 @@
+package org.example.apirest.repository;
+
+import java.time.LocalDateTime;
+
+public interface OrganizadorDashboardRow {
+
+    Long getId();
+
+    String getNombre();
+
+    String getEmail();
+
+    String getTelefono();
+
+    Long getTotalEventos();
+
+    Long getTotalParticipantes();
+
+    LocalDateTime getProximoEvento();
+
+    Long getEventoId();
+
+    String getTitulo();
+
+    LocalDateTime getFecha();
+
+    String getUbicacion();
+
+    Integer getNumParticipantes();
+}
@@ -1,15 +1,62 @@
 package org.example.apirest.repository;
 
+import org.example.apirest.dto.organizador.OrganizadorResponseDTO;
 import org.example.apirest.entity.Organizador;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OrganizadorRepository extends JpaRepository<Organizador, Long> {
+
+    String RESPONSE_SELECT = "select new org.example.apirest.dto.organizador.OrganizadorResponseDTO(" +
+            "o.id, o.nombre, o.email, o.telefono) from Organizador o";
+
     List<Organizador> findByNombreContainingIgnoreCase(String nombre);
     Optional<Organizador> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query(value = RESPONSE_SELECT, countQuery = "select count(o) from Organizador o")
+    Page<OrganizadorResponseDTO> findAllResponses(Pageable pageable);
+
+    @Query(RESPONSE_SELECT)
+    Slice<OrganizadorResponseDTO> findSliceOfResponses(Pageable pageable);
+
+    @Query("select o.email from Organizador o where o.email in :emails")
+    List<String> findEmailsByEmailIn(@Param("emails") Collection<String> emails);
+
+    @Query("select o.version from Organizador o where o.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from Organizador o where o.id = :id and o.version = :version")
+    int deleteByIdAndVersion(@Param("id") Long id, @Param("version") Long version);
+
+    @Query(RESPONSE_SELECT + " where o.id > :afterId order by o.id")
+    Slice<OrganizadorResponseDTO> findResponsesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(value = "select o.id as id, o.nombre as nombre, o.email as email, o.telefono as telefono, " +
+            "coalesce(t.total_eventos, 0) as totalEventos, coalesce(t.total_participantes, 0) as totalParticipantes, " +
+            "t.proximo_evento as proximoEvento, e.id as eventoId, e.titulo as titulo, e.fecha as fecha, " +
+            "e.ubicacion as ubicacion, e.num_participantes as numParticipantes " +
+            "from organizadores o " +
+            "left join (select organizador_id, count(*) as total_eventos, sum(num_participantes) as total_participantes, " +
+            "min(case when fecha >= :desde then fecha end) as proximo_evento " +
+            "from eventos where organizador_id = :id group by organizador_id) t on t.organizador_id = o.id " +
+            "left join eventos e on e.organizador_id = o.id and e.id > :afterId " +
+            "where o.id = :id order by e.id", nativeQuery = true)
+    Slice<OrganizadorDashboardRow> findDashboardRowsById(@Param("id") Long id,
+                                                         @Param("desde") LocalDateTime desde,
+                                                         @Param("afterId") Long afterId,
+                                                         Pageable pageable);
 }
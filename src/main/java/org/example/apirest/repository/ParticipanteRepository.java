@@ -1,18 +1,87 @@
 package org.example.apirest.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.apirest.dto.participante.ParticipanteDetailVersionDTO;
+import org.example.apirest.dto.participante.ParticipanteResponseDTO;
 import org.example.apirest.entity.Participante;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ParticipanteRepository extends JpaRepository<Participante, Long> {
+
+    String RESPONSE_SELECT = "select new org.example.apirest.dto.participante.ParticipanteResponseDTO(" +
+            "p.id, p.nombre, p.email, p.telefono) from Participante p";
+
     List<Participante> findByEmailContainingIgnoreCase(String email);
     List<Participante> findByEventoId(Long eventoId);
     Page<Participante> findByEventoId(Long eventoId, Pageable pageable);
     Optional<Participante> findByEmailAndEventoId(String email, Long eventoId);
+    long countByEventoId(Long eventoId);
+
+    @EntityGraph(attributePaths = {"evento", "evento.contador"})
+    Optional<Participante> findWithEventoById(Long id);
+
+    @Query(value = RESPONSE_SELECT, countQuery = "select count(p) from Participante p")
+    Page<ParticipanteResponseDTO> findAllResponses(Pageable pageable);
+
+    @Query(RESPONSE_SELECT)
+    Slice<ParticipanteResponseDTO> findSliceOfResponses(Pageable pageable);
+
+    @Query(value = RESPONSE_SELECT + " where p.evento.id = :eventoId",
+            countQuery = "select count(p) from Participante p where p.evento.id = :eventoId")
+    Page<ParticipanteResponseDTO> findResponsesByEventoId(@Param("eventoId") Long eventoId, Pageable pageable);
+
+    @Query(RESPONSE_SELECT + " where p.evento.id = :eventoId")
+    Slice<ParticipanteResponseDTO> findSliceOfResponsesByEventoId(@Param("eventoId") Long eventoId, Pageable pageable);
+
+    @Query(RESPONSE_SELECT + " where p.id > :afterId order by p.id")
+    Slice<ParticipanteResponseDTO> findResponsesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select new org.example.apirest.dto.participante.ParticipanteDetailVersionDTO(p.version, e.version) " +
+            "from Participante p join p.evento e where p.id = :id")
+    Optional<ParticipanteDetailVersionDTO> findDetailVersionById(@Param("id") Long id);
+
+    @Query("select p.email from Participante p where p.evento.id = :eventoId and p.email in :emails")
+    List<String> findEmailsByEventoIdAndEmailIn(@Param("eventoId") Long eventoId,
+                                                @Param("emails") Collection<String> emails);
+
+    @Query(RESPONSE_SELECT + " where p.id in :ids")
+    List<ParticipanteResponseDTO> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(RESPONSE_SELECT + " where lower(p.email) like lower(concat('%', :email, '%')) order by p.id")
+    List<ParticipanteResponseDTO> findResponsesByEmailContaining(@Param("email") String email, Pageable pageable);
+
+    @Query("select p.id as id, p.email as text from Participante p where p.id > :afterId order by p.id")
+    List<IndexableText> findEmailsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Participante p where p.evento.id = :eventoId order by p.id")
+    Stream<Participante> streamByEventoId(@Param("eventoId") Long eventoId);
+
+    @Query(RESPONSE_SELECT + " where p.evento.id = :eventoId and p.id > :afterId order by p.id")
+    Slice<ParticipanteResponseDTO> findResponsesByEventoIdAfter(@Param("eventoId") Long eventoId,
+                                                                @Param("afterId") Long afterId,
+                                                                Pageable pageable);
+
+    @Modifying
+    @Query("delete from Participante p where p.evento.id in :eventoIds")
+    int deleteByEventoIdIn(@Param("eventoIds") Collection<Long> eventoIds);
 }
@@ -0,0 +1,28 @@
+package org.example.apirest.search;
+
+import lombok.RequiredArgsConstructor;
+import org.example.apirest.event.EventoChangedEvent;
+import org.example.apirest.repository.EventoRepository;
+import org.example.apirest.repository.IndexableText;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class EventoSearchIndex extends TextSearchIndex {
+
+    private final EventoRepository eventoRepository;
+
+    @Override
+    protected List<IndexableText> loadAfter(Long afterId, Pageable pageable) {
+        return eventoRepository.findTitulosAfter(afterId, pageable);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventoChanged(EventoChangedEvent event) {
+        apply(event.eventoId(), event.titulo(), event.type());
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.apirest.search;
+
+import lombok.RequiredArgsConstructor;
+import org.example.apirest.event.ParticipanteChangedEvent;
+import org.example.apirest.repository.IndexableText;
+import org.example.apirest.repository.ParticipanteRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class ParticipanteSearchIndex extends TextSearchIndex {
+
+    private final ParticipanteRepository participanteRepository;
+
+    @Override
+    protected List<IndexableText> loadAfter(Long afterId, Pageable pageable) {
+        return participanteRepository.findEmailsAfter(afterId, pageable);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipanteChanged(ParticipanteChangedEvent event) {
+        apply(event.participanteId(), event.email(), event.type());
+    }
+}
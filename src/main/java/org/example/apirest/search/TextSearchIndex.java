@@ -0,0 +1,86 @@
+package org.example.apirest.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.apirest.event.ChangeType;
+import org.example.apirest.repository.IndexableText;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+public abstract class TextSearchIndex {
+
+    static final int REBUILD_BATCH_SIZE = 5000;
+
+    private final TrigramIndex index = new TrigramIndex();
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready;
+
+    protected abstract List<IndexableText> loadAfter(Long afterId, Pageable pageable);
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<Long> search(String text, int limit) {
+        return index.search(text, limit);
+    }
+
+    public TrigramIndex.Stats stats() {
+        return index.stats();
+    }
+
+    public synchronized void remove(Collection<Long> ids) {
+        if (!ready) {
+            changedDuringRebuild.addAll(ids);
+        }
+        ids.forEach(index::remove);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            ready = false;
+            changedDuringRebuild.clear();
+            index.clear();
+        }
+        long afterId = 0L;
+        List<IndexableText> batch;
+        do {
+            batch = loadAfter(afterId, PageRequest.ofSize(REBUILD_BATCH_SIZE));
+            for (IndexableText row : batch) {
+                synchronized (this) {
+                    if (!changedDuringRebuild.contains(row.getId())) {
+                        index.put(row.getId(), row.getText());
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        synchronized (this) {
+            changedDuringRebuild.clear();
+            ready = true;
+        }
+        log.debug("Índice {} construido con {} documentos", getClass().getSimpleName(), index.size());
+    }
+
+    protected synchronized void apply(Long id, String text, ChangeType type) {
+        if (!ready) {
+            changedDuringRebuild.add(id);
+        }
+        if (type == ChangeType.DELETED) {
+            index.remove(id);
+        } else {
+            index.put(id, text);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package org.example.apirest.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+public class TrigramIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final int DOCUMENT_OVERHEAD_BYTES = 96;
+    private static final int POSTINGS_OVERHEAD_BYTES = 96;
+
+    private static final Comparator<Match> RANKING = Comparator
+            .comparingInt(Match::tier)
+            .thenComparingInt(Match::position)
+            .thenComparingInt(Match::length)
+            .thenComparingLong(Match::id);
+
+    private final Map<Long, String> documents = new HashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(long id, String text) {
+        String normalized = normalize(text);
+        lock.writeLock().lock();
+        try {
+            String previous = documents.put(id, normalized);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+            for (long trigram : trigrams(normalized)) {
+                postings.computeIfAbsent(trigram, key -> new Postings()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            String previous = documents.remove(id);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (String text : documents.values()) {
+                boolean latin1 = text.chars().allMatch(c -> c < 256);
+                bytes += DOCUMENT_OVERHEAD_BYTES + align((long) text.length() * (latin1 ? 1 : 2));
+            }
+            long entries = 0;
+            for (Postings list : postings.values()) {
+                entries += list.size;
+                bytes += POSTINGS_OVERHEAD_BYTES + (long) list.ids.length * Long.BYTES;
+            }
+            return new Stats(documents.size(), postings.size(), entries, bytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit < 1) {
+            return Collections.emptyList();
+        }
+
+        PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        lock.readLock().lock();
+        try {
+            if (normalized.length() < 3) {
+                for (Map.Entry<Long, String> document : documents.entrySet()) {
+                    offer(best, limit, document.getKey(), document.getValue(), normalized);
+                }
+            } else {
+                long[] candidates = candidates(normalized);
+                for (long id : candidates) {
+                    offer(best, limit, id, documents.get(id), normalized);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING);
+        return ranked.stream().map(Match::id).toList();
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text.strip(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private long[] candidates(String normalized) {
+        long[] queryTrigrams = trigrams(normalized);
+        Postings[] lists = new Postings[queryTrigrams.length];
+        for (int i = 0; i < queryTrigrams.length; i++) {
+            lists[i] = postings.get(queryTrigrams[i]);
+            if (lists[i] == null) {
+                return new long[0];
+            }
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+        long[] result = Arrays.copyOf(lists[0].ids, lists[0].size);
+        int size = result.length;
+        for (int i = 1; i < lists.length && size > 0; i++) {
+            int kept = 0;
+            int from = 0;
+            for (int j = 0; j < size && from < lists[i].size; j++) {
+                from = lists[i].seek(result[j], from);
+                if (from < lists[i].size && lists[i].ids[from] == result[j]) {
+                    result[kept++] = result[j];
+                }
+            }
+            size = kept;
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private void offer(PriorityQueue<Match> best, int limit, long id, String text, String query) {
+        int position = text.indexOf(query);
+        if (position < 0) {
+            return;
+        }
+        Match match = new Match(id, tier(text, query, position), position, text.length());
+        if (best.size() < limit) {
+            best.offer(match);
+        } else if (RANKING.compare(match, best.peek()) < 0) {
+            best.poll();
+            best.offer(match);
+        }
+    }
+
+    private static int tier(String text, String query, int position) {
+        if (position == 0) {
+            return text.length() == query.length() ? 0 : 1;
+        }
+        int from = position;
+        while (from >= 0) {
+            if (!Character.isLetterOrDigit(text.charAt(from - 1))) {
+                return 2;
+            }
+            from = text.indexOf(query, from + 1);
+        }
+        return 3;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private void unindex(long id, String text) {
+        for (long trigram : trigrams(text)) {
+            Postings list = postings.get(trigram);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    private static long[] trigrams(String text) {
+        if (text.length() < 3) {
+            return new long[0];
+        }
+        long[] result = new long[text.length() - 2];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        return Arrays.stream(result).distinct().toArray();
+    }
+
+    private static final class Postings {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size > 0 && ids[size - 1] < id) {
+                grow();
+                ids[size++] = id;
+                return;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            grow();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        int seek(long id, int from) {
+            int bound = 1;
+            while (from + bound < size && ids[from + bound] < id) {
+                bound <<= 1;
+            }
+            int index = Arrays.binarySearch(ids, from + (bound >> 1), Math.min(from + bound + 1, size), id);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        private void grow() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+        }
+    }
+
+    public record Stats(int documents, int trigrams, long postings, long estimatedBytes) {
+
+        public long bytesPerDocument() {
+            return documents == 0 ? 0 : estimatedBytes / documents;
+        }
+    }
+
+    private record Match(long id, int tier, int position, int length) {
+    }
+}
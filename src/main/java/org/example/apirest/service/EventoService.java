@@ -1,23 +1,61 @@
 package org.example.apirest.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.apirest.cache.TotalCountCache;
+import org.example.apirest.cache.UpcomingEventosCache;
+import org.example.apirest.dto.evento.EventoDetailVersionDTO;
+import org.example.apirest.dto.evento.EventoRequestDTO;
+import org.example.apirest.dto.evento.EventoResponseDTO;
+import org.example.apirest.dto.pagination.CountMode;
 import org.example.apirest.entity.Evento;
+import org.example.apirest.event.ChangeType;
+import org.example.apirest.event.EventoChangedEvent;
+import org.example.apirest.exception.BusinessRuleException;
 import org.example.apirest.exception.ResourceNotFoundException;
+import org.example.apirest.mapper.EventoMapper;
 import org.example.apirest.repository.EventoRepository;
+import org.example.apirest.repository.OrganizadorRepository;
+import org.example.apirest.repository.ParticipanteRepository;
+import org.example.apirest.search.EventoSearchIndex;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.BindException;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Service
+@Timed(value = "service.invocations", histogram = true)
 @RequiredArgsConstructor
 public class EventoService {
 
+    static final LocalDateTime MIN_FECHA = LocalDateTime.of(1, 1, 1, 0, 0);
+    static final LocalDateTime MAX_FECHA = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     private final EventoRepository eventoRepository;
+    private final ParticipanteRepository participanteRepository;
+    private final OrganizadorRepository organizadorRepository;
+    private final EventoMapper eventoMapper;
+    private final MergePatcher mergePatcher;
+    private final EventoSearchIndex eventoSearchIndex;
+    private final TotalCountCache totalCountCache;
+    private final UpcomingEventosCache upcomingEventosCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<Evento> findAll() {
@@ -31,6 +69,45 @@ public class EventoService {
         return eventoRepository.findAll(pageable);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<EventoResponseDTO> findAllResponses(Pageable pageable, CountMode countMode) {
+        log.debug("Buscando eventos proyectados con paginación: {} (conteo {})", pageable, countMode);
+        return switch (countMode) {
+            case EXACT -> eventoRepository.findAllResponses(pageable);
+            case CACHED -> new PageImpl<>(eventoRepository.findSliceOfResponses(pageable).getContent(), pageable,
+                    totalCountCache.get(TotalCountCache.EVENTOS, eventoRepository::count));
+            case NONE -> eventoRepository.findSliceOfResponses(pageable);
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<EventoResponseDTO> findResponsesAfter(Long afterId, int limit) {
+        log.debug("Buscando eventos proyectados tras el id {} (límite {})", afterId, limit);
+        return eventoRepository.findResponsesAfter(afterId, PageRequest.ofSize(limit));
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<EventoResponseDTO> findResponsesByFecha(LocalDateTime from, LocalDateTime to, String ubicacion,
+                                                         LocalDateTime afterFecha, Long afterId, int limit) {
+        log.debug("Buscando eventos entre {} y {} en '{}' tras ({}, {}) (límite {})",
+                from, to, ubicacion, afterFecha, afterId, limit);
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BusinessRuleException("La fecha 'from' debe ser anterior a la fecha 'to'");
+        }
+        LocalDateTime lowerBound = from != null ? from : MIN_FECHA;
+        if (afterFecha == null || afterFecha.isBefore(lowerBound)) {
+            afterFecha = lowerBound;
+            afterId = 0L;
+        }
+        return eventoRepository.findResponsesByFechaAfter(afterFecha, afterId, to != null ? to : MAX_FECHA,
+                ubicacion == null || ubicacion.isBlank() ? null : ubicacion.trim(), PageRequest.ofSize(limit));
+    }
+
+    public List<EventoResponseDTO> findUpcoming(int limit) {
+        log.debug("Buscando los próximos {} eventos", limit);
+        return upcomingEventosCache.get(LocalDateTime.now(), limit);
+    }
+
     @Transactional(readOnly = true)
     public Evento findById(Long id) {
         log.debug("Buscando evento con id: {}", id);
@@ -38,38 +115,131 @@ public class EventoService {
                 .orElseThrow(() -> new ResourceNotFoundException("Evento", "id", id));
     }
 
+    @Transactional(readOnly = true)
+    public Evento findDetailById(Long id) {
+        log.debug("Buscando detalle del evento con id: {}", id);
+        return eventoRepository.findWithOrganizadorAndParticipantesById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Evento", "id", id));
+    }
+
+    @Transactional(readOnly = true)
+    public EventoDetailVersionDTO findDetailVersion(Long id) {
+        log.debug("Buscando versión del detalle del evento con id: {}", id);
+        return eventoRepository.findDetailVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Evento", "id", id));
+    }
+
     @Transactional
     public Evento save(Evento evento) {
         log.debug("Guardando nuevo evento: {}", evento.getTitulo());
-        return eventoRepository.save(evento);
+        Evento savedEvento = eventoRepository.save(evento);
+        eventPublisher.publishEvent(new EventoChangedEvent(
+                savedEvento.getId(), savedEvento.getTitulo(), ChangeType.CREATED));
+        return savedEvento;
     }
 
     @Transactional
     public Evento update(Long id, Evento evento) {
+        return update(id, evento, null);
+    }
+
+    @Transactional
+    public Evento update(Long id, Evento evento, Long expectedVersion) {
         log.debug("Actualizando evento con id: {}", id);
         Evento existingEvento = findById(id);
+        Versions.check("Evento", id, expectedVersion, existingEvento.getVersion());
+        if (!Objects.equals(evento.getCapacidad(), existingEvento.getCapacidad())) {
+            updateCapacidad(id, evento.getCapacidad());
+        }
 
         existingEvento.setTitulo(evento.getTitulo());
         existingEvento.setDescripcion(evento.getDescripcion());
         existingEvento.setFecha(evento.getFecha());
         existingEvento.setUbicacion(evento.getUbicacion());
+        existingEvento.setCapacidad(evento.getCapacidad());
         existingEvento.setOrganizador(evento.getOrganizador());
 
-        return eventoRepository.save(existingEvento);
+        Evento updatedEvento = eventoRepository.save(existingEvento);
+        Hibernate.initialize(updatedEvento.getContador());
+        eventPublisher.publishEvent(new EventoChangedEvent(id, updatedEvento.getTitulo(), ChangeType.UPDATED));
+        return updatedEvento;
+    }
+
+    @Transactional
+    public Evento patch(Long id, JsonNode patch, Long expectedVersion) throws BindException {
+        log.debug("Aplicando merge patch al evento con id: {}", id);
+        Evento evento = findById(id);
+        Versions.check("Evento", id, expectedVersion, evento.getVersion());
+        EventoRequestDTO changes = mergePatcher.apply(eventoMapper.toRequestDTO(evento), patch, "evento");
+        if (!Objects.equals(changes.getCapacidad(), evento.getCapacidad())) {
+            updateCapacidad(id, changes.getCapacidad());
+        }
+        if (!changes.getOrganizadorId().equals(evento.getOrganizador().getId())) {
+            evento.setOrganizador(organizadorRepository.findById(changes.getOrganizadorId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Organizador", "id", changes.getOrganizadorId())));
+        }
+        evento.setTitulo(changes.getTitulo());
+        evento.setDescripcion(changes.getDescripcion());
+        evento.setFecha(changes.getFecha());
+        evento.setUbicacion(changes.getUbicacion());
+        evento.setCapacidad(changes.getCapacidad());
+        Hibernate.initialize(evento.getOrganizador());
+        Hibernate.initialize(evento.getContador());
+
+        eventPublisher.publishEvent(new EventoChangedEvent(id, evento.getTitulo(), ChangeType.UPDATED));
+        return evento;
     }
 
     @Transactional
     public void deleteById(Long id) {
+        deleteById(id, null);
+    }
+
+    @Transactional
+    public void deleteById(Long id, Long expectedVersion) {
         log.debug("Eliminando evento con id: {}", id);
-        if (!eventoRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Evento", "id", id);
+        Long version = eventoRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Evento", "id", id));
+        Versions.check("Evento", id, expectedVersion, version);
+        int participantes = participanteRepository.deleteByEventoIdIn(List.of(id));
+        if (eventoRepository.deleteByIdAndVersion(id, version) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Evento.class, id);
         }
-        eventoRepository.deleteById(id);
+        log.debug("Evento {} eliminado junto a {} participantes", id, participantes);
+        eventPublisher.publishEvent(new EventoChangedEvent(id, ChangeType.DELETED));
     }
 
     @Transactional(readOnly = true)
-    public List<Evento> searchByTitulo(String titulo) {
-        log.debug("Buscando eventos por título: {}", titulo);
-        return eventoRepository.findByTituloContainingIgnoreCase(titulo);
+    public List<EventoResponseDTO> searchByTitulo(String titulo, int limit) {
+        log.debug("Buscando eventos por título: {} (límite {})", titulo, limit);
+        if (!eventoSearchIndex.isReady()) {
+            return eventoRepository.findResponsesByTituloContaining(titulo, PageRequest.ofSize(limit));
+        }
+        List<Long> ids = eventoSearchIndex.search(titulo, limit);
+        Map<Long, EventoResponseDTO> eventos = new HashMap<>();
+        List<Long> toLoad = ids;
+        while (!toLoad.isEmpty()) {
+            eventoRepository.findResponsesByIdIn(toLoad).forEach(evento -> eventos.put(evento.getId(), evento));
+            List<Long> missing = toLoad.stream().filter(id -> !eventos.containsKey(id)).toList();
+            if (missing.isEmpty()) {
+                break;
+            }
+            eventoSearchIndex.remove(missing);
+            ids = eventoSearchIndex.search(titulo, limit);
+            toLoad = ids.stream().filter(id -> !eventos.containsKey(id)).toList();
+        }
+        return ids.stream()
+                .map(eventos::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void updateCapacidad(Long id, Integer capacidad) {
+        if (capacidad == null || eventoRepository.updateCapacidad(id, capacidad) == 1) {
+            return;
+        }
+        int numParticipantes = eventoRepository.findNumParticipantesById(id).orElse(0);
+        throw new BusinessRuleException(String.format(
+                "La capacidad no puede ser menor que los %d participantes inscritos", numParticipantes));
     }
 }
@@ -0,0 +1,169 @@
+package org.example.apirest.service;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.apirest.dto.bulk.ImportErrorDTO;
+import org.example.apirest.dto.bulk.ImportReportDTO;
+import org.example.apirest.dto.organizador.OrganizadorRequestDTO;
+import org.example.apirest.dto.participante.ParticipanteRequestDTO;
+import org.example.apirest.entity.Evento;
+import org.example.apirest.exception.CapacityExceededException;
+import org.example.apirest.exception.DuplicateResourceException;
+import org.example.apirest.io.ImportReader;
+import org.example.apirest.io.ImportRecord;
+import org.example.apirest.mapper.OrganizadorMapper;
+import org.example.apirest.mapper.ParticipanteMapper;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+@Timed(value = "service.invocations", histogram = true)
+@RequiredArgsConstructor
+public class ImportService {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final ParticipanteService participanteService;
+    private final OrganizadorService organizadorService;
+    private final ParticipanteMapper participanteMapper;
+    private final OrganizadorMapper organizadorMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+
+    public ImportReportDTO importParticipantes(Evento evento, ImportReader<ParticipanteRequestDTO> reader)
+            throws IOException {
+        log.debug("Importando participantes en el evento: {}", evento.getId());
+        return importRecords(reader,
+                requestDTO -> requestDTO.setEventoId(evento.getId()),
+                ParticipanteRequestDTO::getEmail,
+                emails -> participanteService.findExistingEmails(evento.getId(), emails),
+                requestDTOs -> participanteService.saveAll(evento.getId(), requestDTOs.stream()
+                        .map(requestDTO -> participanteMapper.toEntity(requestDTO, evento))
+                        .toList()),
+                requestDTO -> participanteService.save(participanteMapper.toEntity(requestDTO, evento)));
+    }
+
+    public ImportReportDTO importOrganizadores(ImportReader<OrganizadorRequestDTO> reader) throws IOException {
+        log.debug("Importando organizadores");
+        return importRecords(reader,
+                requestDTO -> { },
+                OrganizadorRequestDTO::getEmail,
+                organizadorService::findExistingEmails,
+                requestDTOs -> organizadorService.saveAll(requestDTOs.stream()
+                        .map(organizadorMapper::toEntity)
+                        .toList()),
+                requestDTO -> organizadorService.save(organizadorMapper.toEntity(requestDTO)));
+    }
+
+    private <T> ImportReportDTO importRecords(ImportReader<T> reader,
+                                              Consumer<T> prepare,
+                                              Function<T, String> email,
+                                              Function<Collection<String>, Collection<String>> existingEmails,
+                                              Consumer<List<T>> saveChunk,
+                                              Consumer<T> saveOne) throws IOException {
+        ImportReportDTO report = new ImportReportDTO();
+        List<ImportRecord<T>> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (ImportRecord<T> record = reader.next(); record != null; record = reader.next()) {
+            report.setProcessed(report.getProcessed() + 1);
+            if (!record.isValid()) {
+                reject(report, record.line(), null, record.error());
+                continue;
+            }
+            prepare.accept(record.value());
+            Set<ConstraintViolation<T>> violations = validator.validate(record.value());
+            if (!violations.isEmpty()) {
+                reject(report, record.line(), violations);
+                continue;
+            }
+            chunk.add(record);
+            if (chunk.size() == CHUNK_SIZE) {
+                writeChunk(report, chunk, email, existingEmails, saveChunk, saveOne);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(report, chunk, email, existingEmails, saveChunk, saveOne);
+        }
+        log.debug("Importación terminada: {} procesados, {} importados, {} con errores",
+                report.getProcessed(), report.getImported(), report.getFailed());
+        return report;
+    }
+
+    private <T> void writeChunk(ImportReportDTO report,
+                                List<ImportRecord<T>> chunk,
+                                Function<T, String> email,
+                                Function<Collection<String>, Collection<String>> existingEmails,
+                                Consumer<List<T>> saveChunk,
+                                Consumer<T> saveOne) {
+        Set<String> existing = new HashSet<>(existingEmails.apply(
+                chunk.stream().map(record -> email.apply(record.value())).toList()));
+        Set<String> seen = new HashSet<>();
+        List<ImportRecord<T>> accepted = new ArrayList<>(chunk.size());
+        for (ImportRecord<T> record : chunk) {
+            String value = email.apply(record.value());
+            if (existing.contains(value) || !seen.add(value)) {
+                reject(report, record.line(), "email", "El email ya está registrado: " + value);
+            } else {
+                accepted.add(record);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+        try {
+            saveChunk.accept(accepted.stream().map(ImportRecord::value).toList());
+            report.setImported(report.getImported() + accepted.size());
+        } catch (RuntimeException e) {
+            log.debug("Fallo al guardar un bloque de {} registros, se reintenta uno a uno", accepted.size());
+            for (ImportRecord<T> record : accepted) {
+                try {
+                    saveOne.accept(record.value());
+                    report.setImported(report.getImported() + 1);
+                } catch (RuntimeException ex) {
+                    reject(report, record.line(), null,
+                            ex instanceof DuplicateResourceException || ex instanceof CapacityExceededException
+                            ? ex.getMessage()
+                            : "No se pudo guardar el registro");
+                }
+            }
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private <T> void reject(ImportReportDTO report, long line, Set<ConstraintViolation<T>> violations) {
+        report.setFailed(report.getFailed() + 1);
+        violations.forEach(violation -> addError(report, ImportErrorDTO.builder()
+                .line(line)
+                .field(violation.getPropertyPath().toString())
+                .message(violation.getMessage())
+                .build()));
+    }
+
+    private void reject(ImportReportDTO report, long line, String field, String message) {
+        report.setFailed(report.getFailed() + 1);
+        addError(report, ImportErrorDTO.builder().line(line).field(field).message(message).build());
+    }
+
+    private void addError(ImportReportDTO report, ImportErrorDTO error) {
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+            report.getErrors().add(error);
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.apirest.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.example.apirest.exception.BusinessRuleException;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindException;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+@Component
+@RequiredArgsConstructor
+public class MergePatcher {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public <T> T apply(T current, JsonNode patch, String objectName) throws BindException {
+        if (patch == null || !patch.isObject()) {
+            throw new BusinessRuleException("El cuerpo de un merge patch debe ser un objeto JSON");
+        }
+        T patched;
+        try {
+            patched = objectMapper.readerForUpdating(current).readValue(patch);
+        } catch (JsonProcessingException ex) {
+            throw new BusinessRuleException("El merge patch no se puede aplicar: " + ex.getOriginalMessage());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        BeanPropertyBindingResult errors = new BeanPropertyBindingResult(patched, objectName);
+        new SpringValidatorAdapter(validator).validate(patched, errors);
+        if (errors.hasErrors()) {
+            throw new BindException(errors);
+        }
+        return patched;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.apirest.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.example.apirest.repository.EventoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@Timed(value = "service.invocations", histogram = true)
+public class NumParticipantesReconciler {
+
+    private final EventoRepository eventoRepository;
+    private final int batchSize;
+
+    public NumParticipantesReconciler(EventoRepository eventoRepository,
+                                      @Value("${app.reconciliation.num-participantes.batch-size:500}") int batchSize) {
+        this.eventoRepository = eventoRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${app.reconciliation.num-participantes.cron:0 30 3 * * *}")
+    public int reconcile() {
+        log.debug("Revisando el contador de participantes de los eventos en lotes de {}", batchSize);
+        int scanned = 0;
+        int repaired = 0;
+        for (List<Long> ids = nextBatch(0L); !ids.isEmpty(); ids = nextBatch(ids.get(ids.size() - 1))) {
+            repaired += eventoRepository.repairNumParticipantes(ids.get(0), ids.get(ids.size() - 1));
+            scanned += ids.size();
+        }
+        if (repaired > 0) {
+            log.warn("Contador de participantes corregido en {} de {} eventos", repaired, scanned);
+        } else {
+            log.debug("Contador de participantes correcto en {} eventos", scanned);
+        }
+        return repaired;
+    }
+
+    private List<Long> nextBatch(Long afterId) {
+        return eventoRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize));
+    }
+}
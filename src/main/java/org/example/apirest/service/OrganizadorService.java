@@ -1,24 +1,59 @@
 package org.example.apirest.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.apirest.cache.TotalCountCache;
+import org.example.apirest.dto.evento.EventoSummaryDTO;
+import org.example.apirest.dto.organizador.OrganizadorDashboardDTO;
+import org.example.apirest.dto.organizador.OrganizadorRequestDTO;
+import org.example.apirest.dto.organizador.OrganizadorResponseDTO;
+import org.example.apirest.dto.pagination.CountMode;
 import org.example.apirest.entity.Organizador;
+import org.example.apirest.event.ChangeType;
+import org.example.apirest.event.EventoChangedEvent;
+import org.example.apirest.event.OrganizadorChangedEvent;
 import org.example.apirest.exception.DuplicateResourceException;
 import org.example.apirest.exception.ResourceNotFoundException;
+import org.example.apirest.mapper.OrganizadorMapper;
+import org.example.apirest.repository.EventoRepository;
+import org.example.apirest.repository.OrganizadorDashboardRow;
 import org.example.apirest.repository.OrganizadorRepository;
+import org.example.apirest.repository.ParticipanteRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.BindException;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
+@Timed(value = "service.invocations", histogram = true)
 @RequiredArgsConstructor
 public class OrganizadorService {
 
+    static final int DELETE_CHUNK_SIZE = 500;
+
     private final OrganizadorRepository organizadorRepository;
+    private final EventoRepository eventoRepository;
+    private final ParticipanteRepository participanteRepository;
+    private final OrganizadorMapper organizadorMapper;
+    private final MergePatcher mergePatcher;
+    private final TotalCountCache totalCountCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<Organizador> findAll() {
@@ -32,6 +67,23 @@ public class OrganizadorService {
         return organizadorRepository.findAll(pageable);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<OrganizadorResponseDTO> findAllResponses(Pageable pageable, CountMode countMode) {
+        log.debug("Buscando organizadores proyectados con paginación: {} (conteo {})", pageable, countMode);
+        return switch (countMode) {
+            case EXACT -> organizadorRepository.findAllResponses(pageable);
+            case CACHED -> new PageImpl<>(organizadorRepository.findSliceOfResponses(pageable).getContent(), pageable,
+                    totalCountCache.get(TotalCountCache.ORGANIZADORES, organizadorRepository::count));
+            case NONE -> organizadorRepository.findSliceOfResponses(pageable);
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<OrganizadorResponseDTO> findResponsesAfter(Long afterId, int limit) {
+        log.debug("Buscando organizadores proyectados tras el id {} (límite {})", afterId, limit);
+        return organizadorRepository.findResponsesAfter(afterId, PageRequest.ofSize(limit));
+    }
+
     @Transactional(readOnly = true)
     public Organizador findById(Long id) {
         log.debug("Buscando organizador con id: {}", id);
@@ -39,33 +91,111 @@ public class OrganizadorService {
                 .orElseThrow(() -> new ResourceNotFoundException("Organizador", "id", id));
     }
 
+    @Transactional(readOnly = true)
+    public Long findVersion(Long id) {
+        log.debug("Buscando versión del organizador con id: {}", id);
+        return organizadorRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Organizador", "id", id));
+    }
+
     @Transactional
     public Organizador save(Organizador organizador) {
         log.debug("Guardando nuevo organizador: {}", organizador.getEmail());
-        validateEmailNotExists(organizador.getEmail(), null);
-        return organizadorRepository.save(organizador);
+        Organizador savedOrganizador = saveAndFlush(organizador);
+        eventPublisher.publishEvent(new OrganizadorChangedEvent(savedOrganizador.getId(), ChangeType.CREATED));
+        return savedOrganizador;
+    }
+
+    @Transactional
+    public List<Organizador> saveAll(List<Organizador> organizadores) {
+        log.debug("Guardando {} organizadores", organizadores.size());
+        Set<String> emails = new HashSet<>();
+        for (Organizador organizador : organizadores) {
+            if (!emails.add(organizador.getEmail())) {
+                throw new DuplicateResourceException("Organizador", "email", organizador.getEmail());
+            }
+        }
+        findExistingEmails(emails).stream().findFirst().ifPresent(email -> {
+            throw new DuplicateResourceException("Organizador", "email", email);
+        });
+        List<Organizador> savedOrganizadores;
+        try {
+            savedOrganizadores = organizadorRepository.saveAllAndFlush(organizadores);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueConstraints.isViolated(e, Organizador.EMAIL_UNIQUE)) {
+                throw new DuplicateResourceException("Alguno de los organizadores ya está registrado con el mismo email");
+            }
+            throw e;
+        }
+        savedOrganizadores.forEach(saved -> eventPublisher.publishEvent(
+                new OrganizadorChangedEvent(saved.getId(), ChangeType.CREATED)));
+        return savedOrganizadores;
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> findExistingEmails(Collection<String> emails) {
+        return organizadorRepository.findEmailsByEmailIn(emails);
     }
 
     @Transactional
     public Organizador update(Long id, Organizador organizador) {
+        return update(id, organizador, null);
+    }
+
+    @Transactional
+    public Organizador update(Long id, Organizador organizador, Long expectedVersion) {
         log.debug("Actualizando organizador con id: {}", id);
         Organizador existingOrganizador = findById(id);
-        validateEmailNotExists(organizador.getEmail(), id);
+        Versions.check("Organizador", id, expectedVersion, existingOrganizador.getVersion());
 
         existingOrganizador.setNombre(organizador.getNombre());
         existingOrganizador.setEmail(organizador.getEmail());
         existingOrganizador.setTelefono(organizador.getTelefono());
 
-        return organizadorRepository.save(existingOrganizador);
+        Organizador updatedOrganizador = saveAndFlush(existingOrganizador);
+        eventPublisher.publishEvent(new OrganizadorChangedEvent(id, ChangeType.UPDATED));
+        return updatedOrganizador;
+    }
+
+    @Transactional
+    public Organizador patch(Long id, JsonNode patch, Long expectedVersion) throws BindException {
+        log.debug("Aplicando merge patch al organizador con id: {}", id);
+        Organizador organizador = findById(id);
+        Versions.check("Organizador", id, expectedVersion, organizador.getVersion());
+        OrganizadorRequestDTO changes = mergePatcher.apply(
+                organizadorMapper.toRequestDTO(organizador), patch, "organizador");
+        organizadorMapper.updateEntityFromDTO(changes, organizador);
+
+        flush(organizador);
+        eventPublisher.publishEvent(new OrganizadorChangedEvent(id, ChangeType.UPDATED));
+        return organizador;
     }
 
     @Transactional
     public void deleteById(Long id) {
+        deleteById(id, null);
+    }
+
+    @Transactional
+    public void deleteById(Long id, Long expectedVersion) {
         log.debug("Eliminando organizador con id: {}", id);
-        if (!organizadorRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Organizador", "id", id);
+        Long version = organizadorRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Organizador", "id", id));
+        Versions.check("Organizador", id, expectedVersion, version);
+        List<Long> eventoIds = eventoRepository.findIdsByOrganizadorId(id);
+        int participantes = 0;
+        for (int from = 0; from < eventoIds.size(); from += DELETE_CHUNK_SIZE) {
+            List<Long> chunk = eventoIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, eventoIds.size()));
+            participantes += participanteRepository.deleteByEventoIdIn(chunk);
+            eventoRepository.deleteAllByIdInBatch(chunk);
         }
-        organizadorRepository.deleteById(id);
+        if (organizadorRepository.deleteByIdAndVersion(id, version) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Organizador.class, id);
+        }
+        log.debug("Organizador {} eliminado junto a {} eventos y {} participantes",
+                id, eventoIds.size(), participantes);
+        eventoIds.forEach(eventoId -> eventPublisher.publishEvent(new EventoChangedEvent(eventoId, ChangeType.DELETED)));
+        eventPublisher.publishEvent(new OrganizadorChangedEvent(id, ChangeType.DELETED));
     }
 
     @Transactional(readOnly = true)
@@ -74,11 +204,59 @@ public class OrganizadorService {
         return organizadorRepository.findByNombreContainingIgnoreCase(nombre);
     }
 
-    private void validateEmailNotExists(String email, Long excludeId) {
-        organizadorRepository.findByEmail(email).ifPresent(existing -> {
-            if (excludeId == null || !existing.getId().equals(excludeId)) {
-                throw new DuplicateResourceException("Organizador", "email", email);
-            }
-        });
+    @Transactional(readOnly = true)
+    public List<EventoSummaryDTO> findEventoSummaries(Long id) {
+        log.debug("Buscando eventos del organizador: {}", id);
+        if (!organizadorRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Organizador", "id", id);
+        }
+        return eventoRepository.findSummariesByOrganizadorId(id);
+    }
+
+    @Transactional(readOnly = true)
+    public OrganizadorDashboardDTO findDashboard(Long id) {
+        log.debug("Calculando el panel del organizador: {}", id);
+        return organizadorMapper.toDashboardDTO(findDashboardRows(id, 0L, Pageable.unpaged()).getContent());
+    }
+
+    @Transactional(readOnly = true)
+    public OrganizadorDashboardDTO findDashboard(Long id, Long afterId, int limit) {
+        log.debug("Calculando el panel del organizador {} con eventos tras el id {} (límite {})", id, afterId, limit);
+        Slice<OrganizadorDashboardRow> rows = findDashboardRows(id, afterId, PageRequest.ofSize(limit));
+        OrganizadorDashboardDTO dashboard = organizadorMapper.toDashboardDTO(rows.getContent());
+        dashboard.setHasNext(rows.hasNext());
+        return dashboard;
+    }
+
+    private Slice<OrganizadorDashboardRow> findDashboardRows(Long id, Long afterId, Pageable pageable) {
+        Slice<OrganizadorDashboardRow> rows = organizadorRepository.findDashboardRowsById(
+                id, LocalDateTime.now(), afterId, pageable);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("Organizador", "id", id);
+        }
+        return rows;
+    }
+
+    private Organizador saveAndFlush(Organizador organizador) {
+        try {
+            return organizadorRepository.saveAndFlush(organizador);
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e, organizador);
+        }
+    }
+
+    private void flush(Organizador organizador) {
+        try {
+            organizadorRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e, organizador);
+        }
+    }
+
+    private RuntimeException translate(DataIntegrityViolationException e, Organizador organizador) {
+        if (UniqueConstraints.isViolated(e, Organizador.EMAIL_UNIQUE)) {
+            return new DuplicateResourceException("Organizador", "email", organizador.getEmail());
+        }
+        return e;
     }
 }
@@ -1,24 +1,64 @@
 package org.example.apirest.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.apirest.cache.TotalCountCache;
+import org.example.apirest.dto.pagination.CountMode;
+import org.example.apirest.dto.participante.ParticipanteDetailVersionDTO;
+import org.example.apirest.dto.participante.ParticipanteRequestDTO;
+import org.example.apirest.dto.participante.ParticipanteResponseDTO;
+import org.example.apirest.dto.search.SearchIndexStatsDTO;
 import org.example.apirest.entity.Participante;
+import org.example.apirest.event.ChangeType;
+import org.example.apirest.event.ParticipanteChangedEvent;
+import org.example.apirest.exception.CapacityExceededException;
 import org.example.apirest.exception.DuplicateResourceException;
 import org.example.apirest.exception.ResourceNotFoundException;
+import org.example.apirest.mapper.ParticipanteMapper;
+import org.example.apirest.repository.EventoRepository;
 import org.example.apirest.repository.ParticipanteRepository;
+import org.example.apirest.search.ParticipanteSearchIndex;
+import org.example.apirest.search.TrigramIndex;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.BindException;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
+@Timed(value = "service.invocations", histogram = true)
 @RequiredArgsConstructor
 public class ParticipanteService {
 
     private final ParticipanteRepository participanteRepository;
+    private final EventoRepository eventoRepository;
+    private final EntityManager entityManager;
+    private final ParticipanteSearchIndex participanteSearchIndex;
+    private final TotalCountCache totalCountCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ParticipanteMapper participanteMapper;
+    private final MergePatcher mergePatcher;
 
     @Transactional(readOnly = true)
     public List<Participante> findAll() {
@@ -32,6 +72,23 @@ public class ParticipanteService {
         return participanteRepository.findAll(pageable);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<ParticipanteResponseDTO> findAllResponses(Pageable pageable, CountMode countMode) {
+        log.debug("Buscando participantes proyectados con paginación: {} (conteo {})", pageable, countMode);
+        return switch (countMode) {
+            case EXACT -> participanteRepository.findAllResponses(pageable);
+            case CACHED -> new PageImpl<>(participanteRepository.findSliceOfResponses(pageable).getContent(), pageable,
+                    totalCountCache.get(TotalCountCache.PARTICIPANTES, participanteRepository::count));
+            case NONE -> participanteRepository.findSliceOfResponses(pageable);
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ParticipanteResponseDTO> findResponsesAfter(Long afterId, int limit) {
+        log.debug("Buscando participantes proyectados tras el id {} (límite {})", afterId, limit);
+        return participanteRepository.findResponsesAfter(afterId, PageRequest.ofSize(limit));
+    }
+
     @Transactional(readOnly = true)
     public Participante findById(Long id) {
         log.debug("Buscando participante con id: {}", id);
@@ -39,40 +96,171 @@ public class ParticipanteService {
                 .orElseThrow(() -> new ResourceNotFoundException("Participante", "id", id));
     }
 
+    @Transactional(readOnly = true)
+    public Participante findDetailById(Long id) {
+        log.debug("Buscando detalle del participante con id: {}", id);
+        return participanteRepository.findWithEventoById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Participante", "id", id));
+    }
+
+    @Transactional(readOnly = true)
+    public ParticipanteDetailVersionDTO findDetailVersion(Long id) {
+        log.debug("Buscando versión del participante con id: {}", id);
+        return participanteRepository.findDetailVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Participante", "id", id));
+    }
+
     @Transactional
     public Participante save(Participante participante) {
         log.debug("Guardando nuevo participante: {}", participante.getEmail());
-        validateEmailNotExistsInEvento(participante.getEmail(), participante.getEvento().getId(), null);
-        return participanteRepository.save(participante);
+        Participante savedParticipante = saveAndFlush(participante);
+        reservePlazas(participante.getEvento().getId(), 1);
+        eventPublisher.publishEvent(new ParticipanteChangedEvent(
+                savedParticipante.getId(), participante.getEvento().getId(), savedParticipante.getEmail(),
+                ChangeType.CREATED));
+        return savedParticipante;
+    }
+
+    @Transactional
+    public List<Participante> saveAll(Long eventoId, List<Participante> participantes) {
+        log.debug("Guardando {} participantes en el evento {}", participantes.size(), eventoId);
+        validateEmailsNotExistInEvento(participantes, eventoId);
+        List<Participante> savedParticipantes;
+        try {
+            savedParticipantes = participanteRepository.saveAllAndFlush(participantes);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueConstraints.isViolated(e, Participante.EMAIL_EVENTO_UNIQUE)) {
+                throw new DuplicateResourceException(
+                        "Alguno de los participantes ya está registrado en el evento " + eventoId);
+            }
+            throw e;
+        }
+        reservePlazas(eventoId, savedParticipantes.size());
+        savedParticipantes.forEach(saved -> eventPublisher.publishEvent(new ParticipanteChangedEvent(
+                saved.getId(), eventoId, saved.getEmail(), ChangeType.CREATED)));
+        return savedParticipantes;
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> findExistingEmails(Long eventoId, Collection<String> emails) {
+        return participanteRepository.findEmailsByEventoIdAndEmailIn(eventoId, emails);
     }
 
     @Transactional
     public Participante update(Long id, Participante participante) {
+        return update(id, participante, null);
+    }
+
+    @Transactional
+    public Participante update(Long id, Participante participante, Long expectedVersion) {
         log.debug("Actualizando participante con id: {}", id);
         Participante existingParticipante = findById(id);
-        validateEmailNotExistsInEvento(participante.getEmail(), participante.getEvento().getId(), id);
+        Versions.check("Participante", id, expectedVersion, existingParticipante.getVersion());
+        Long previousEventoId = existingParticipante.getEvento() != null ? existingParticipante.getEvento().getId() : null;
+        Long previousVersion = existingParticipante.getVersion();
 
         existingParticipante.setNombre(participante.getNombre());
         existingParticipante.setEmail(participante.getEmail());
         existingParticipante.setTelefono(participante.getTelefono());
         existingParticipante.setEvento(participante.getEvento());
 
-        return participanteRepository.save(existingParticipante);
+        Participante updatedParticipante = saveAndFlush(existingParticipante);
+        if (!participante.getEvento().getId().equals(previousEventoId)) {
+            if (previousEventoId != null) {
+                eventoRepository.releasePlazas(previousEventoId, 1);
+            }
+            reservePlazas(participante.getEvento().getId(), 1);
+        } else if (!Objects.equals(updatedParticipante.getVersion(), previousVersion)) {
+            eventoRepository.incrementRosterVersion(previousEventoId);
+        }
+        eventPublisher.publishEvent(new ParticipanteChangedEvent(
+                id, participante.getEvento().getId(), previousEventoId, updatedParticipante.getEmail(),
+                ChangeType.UPDATED));
+        return updatedParticipante;
+    }
+
+    @Transactional
+    public Participante patch(Long id, JsonNode patch, Long expectedVersion) throws BindException {
+        log.debug("Aplicando merge patch al participante con id: {}", id);
+        Participante participante = findById(id);
+        Versions.check("Participante", id, expectedVersion, participante.getVersion());
+        Long previousEventoId = participante.getEvento().getId();
+        Long previousVersion = participante.getVersion();
+        ParticipanteRequestDTO changes = mergePatcher.apply(
+                participanteMapper.toRequestDTO(participante), patch, "participante");
+        boolean eventoChanged = !changes.getEventoId().equals(previousEventoId);
+        if (eventoChanged) {
+            participante.setEvento(eventoRepository.findById(changes.getEventoId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Evento", "id", changes.getEventoId())));
+        }
+        participante.setNombre(changes.getNombre());
+        participante.setEmail(changes.getEmail());
+        participante.setTelefono(changes.getTelefono());
+
+        flush(participante);
+        if (eventoChanged) {
+            eventoRepository.releasePlazas(previousEventoId, 1);
+            reservePlazas(changes.getEventoId(), 1);
+        } else if (!Objects.equals(participante.getVersion(), previousVersion)) {
+            eventoRepository.incrementRosterVersion(previousEventoId);
+        }
+        eventPublisher.publishEvent(new ParticipanteChangedEvent(
+                id, changes.getEventoId(), previousEventoId, participante.getEmail(), ChangeType.UPDATED));
+        return participante;
     }
 
     @Transactional
     public void deleteById(Long id) {
+        deleteById(id, null);
+    }
+
+    @Transactional
+    public void deleteById(Long id, Long expectedVersion) {
         log.debug("Eliminando participante con id: {}", id);
-        if (!participanteRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Participante", "id", id);
-        }
-        participanteRepository.deleteById(id);
+        Participante participante = findById(id);
+        Versions.check("Participante", id, expectedVersion, participante.getVersion());
+        participanteRepository.delete(participante);
+        eventoRepository.releasePlazas(participante.getEvento().getId(), 1);
+        eventPublisher.publishEvent(new ParticipanteChangedEvent(
+                id, participante.getEvento().getId(), ChangeType.DELETED));
     }
 
     @Transactional(readOnly = true)
-    public List<Participante> searchByEmail(String email) {
-        log.debug("Buscando participantes por email: {}", email);
-        return participanteRepository.findByEmailContainingIgnoreCase(email);
+    public List<ParticipanteResponseDTO> searchByEmail(String email, int limit) {
+        log.debug("Buscando participantes por email: {} (límite {})", email, limit);
+        if (!participanteSearchIndex.isReady()) {
+            return participanteRepository.findResponsesByEmailContaining(email, PageRequest.ofSize(limit));
+        }
+        List<Long> ids = participanteSearchIndex.search(email, limit);
+        Map<Long, ParticipanteResponseDTO> participantes = new HashMap<>();
+        List<Long> toLoad = ids;
+        while (!toLoad.isEmpty()) {
+            participanteRepository.findResponsesByIdIn(toLoad)
+                    .forEach(participante -> participantes.put(participante.getId(), participante));
+            List<Long> missing = toLoad.stream().filter(id -> !participantes.containsKey(id)).toList();
+            if (missing.isEmpty()) {
+                break;
+            }
+            participanteSearchIndex.remove(missing);
+            ids = participanteSearchIndex.search(email, limit);
+            toLoad = ids.stream().filter(id -> !participantes.containsKey(id)).toList();
+        }
+        return ids.stream()
+                .map(participantes::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public SearchIndexStatsDTO searchIndexStats() {
+        TrigramIndex.Stats stats = participanteSearchIndex.stats();
+        return SearchIndexStatsDTO.builder()
+                .ready(participanteSearchIndex.isReady())
+                .documents(stats.documents())
+                .trigrams(stats.trigrams())
+                .postings(stats.postings())
+                .estimatedBytes(stats.estimatedBytes())
+                .bytesPerDocument(stats.bytesPerDocument())
+                .build();
     }
 
     @Transactional(readOnly = true)
@@ -87,11 +275,77 @@ public class ParticipanteService {
         return participanteRepository.findByEventoId(eventoId, pageable);
     }
 
-    private void validateEmailNotExistsInEvento(String email, Long eventoId, Long excludeParticipanteId) {
-        participanteRepository.findByEmailAndEventoId(email, eventoId).ifPresent(existing -> {
-            if (excludeParticipanteId == null || !existing.getId().equals(excludeParticipanteId)) {
-                throw new DuplicateResourceException("Participante", "email", email);
+    @Transactional(readOnly = true)
+    public Slice<ParticipanteResponseDTO> findResponsesByEventoId(Long eventoId, Pageable pageable, CountMode countMode) {
+        log.debug("Buscando participantes proyectados del evento {} con paginación (conteo {})", eventoId, countMode);
+        return switch (countMode) {
+            case EXACT -> participanteRepository.findResponsesByEventoId(eventoId, pageable);
+            case CACHED -> new PageImpl<>(
+                    participanteRepository.findSliceOfResponsesByEventoId(eventoId, pageable).getContent(), pageable,
+                    totalCountCache.get(TotalCountCache.participantesDeEvento(eventoId),
+                            () -> participanteRepository.countByEventoId(eventoId)));
+            case NONE -> participanteRepository.findSliceOfResponsesByEventoId(eventoId, pageable);
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public void exportByEventoId(Long eventoId, Consumer<Participante> consumer) {
+        log.debug("Exportando participantes del evento: {}", eventoId);
+        entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        try (Stream<Participante> participantes = participanteRepository.streamByEventoId(eventoId)) {
+            participantes.forEach(participante -> {
+                consumer.accept(participante);
+                entityManager.detach(participante);
+            });
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ParticipanteResponseDTO> findResponsesByEventoIdAfter(Long eventoId, Long afterId, int limit) {
+        log.debug("Buscando participantes proyectados del evento {} tras el id {} (límite {})", eventoId, afterId, limit);
+        return participanteRepository.findResponsesByEventoIdAfter(eventoId, afterId, PageRequest.ofSize(limit));
+    }
+
+    private void reservePlazas(Long eventoId, int plazas) {
+        if (eventoRepository.reservePlazas(eventoId, plazas) == 0) {
+            throw new CapacityExceededException(eventoId);
+        }
+    }
+
+    private Participante saveAndFlush(Participante participante) {
+        try {
+            return participanteRepository.saveAndFlush(participante);
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e, participante);
+        }
+    }
+
+    private void flush(Participante participante) {
+        try {
+            participanteRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e, participante);
+        }
+    }
+
+    private RuntimeException translate(DataIntegrityViolationException e, Participante participante) {
+        if (UniqueConstraints.isViolated(e, Participante.EMAIL_EVENTO_UNIQUE)) {
+            return new DuplicateResourceException("Participante", "email", participante.getEmail());
+        }
+        return e;
+    }
+
+    private void validateEmailsNotExistInEvento(List<Participante> participantes, Long eventoId) {
+        Set<String> emails = new HashSet<>();
+        for (Participante participante : participantes) {
+            if (!emails.add(participante.getEmail())) {
+                throw new DuplicateResourceException("Participante", "email", participante.getEmail());
             }
-        });
+        }
+        participanteRepository.findEmailsByEventoIdAndEmailIn(eventoId, emails).stream()
+                .findFirst()
+                .ifPresent(email -> {
+                    throw new DuplicateResourceException("Participante", "email", email);
+                });
     }
 }
@@ -0,0 +1,18 @@
+package org.example.apirest.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+final class UniqueConstraints {
+
+    private UniqueConstraints() {
+    }
+
+    static boolean isViolated(DataIntegrityViolationException e, String constraintName) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraintName);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.apirest.service;
+
+import org.example.apirest.exception.PreconditionFailedException;
+
+final class Versions {
+
+    private Versions() {
+    }
+
+    static void check(String resourceName, Long id, Long expectedVersion, Long currentVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new PreconditionFailedException(resourceName, id, expectedVersion, currentVersion);
+        }
+    }
+}
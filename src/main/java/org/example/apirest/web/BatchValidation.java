@@ -0,0 +1,38 @@
+package org.example.apirest.web;
+
+import jakarta.validation.Validator;
+import org.example.apirest.exception.BusinessRuleException;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindException;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.util.List;
+
+final class BatchValidation {
+
+    static final int MAX_BATCH_SIZE = 5000;
+
+    private BatchValidation() {
+    }
+
+    static <T> List<T> validate(Validator validator, List<T> items, String objectName) throws BindException {
+        if (items == null || items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new BusinessRuleException(
+                    String.format("El lote debe contener entre 1 y %d elementos", MAX_BATCH_SIZE));
+        }
+        if (items.contains(null)) {
+            throw new BusinessRuleException("El lote no puede contener elementos vacíos");
+        }
+        SpringValidatorAdapter adapter = new SpringValidatorAdapter(validator);
+        BeanPropertyBindingResult errors = new BeanPropertyBindingResult(items, objectName);
+        for (int i = 0; i < items.size(); i++) {
+            errors.pushNestedPath("[" + i + "]");
+            adapter.validate(items.get(i), errors);
+            errors.popNestedPath();
+        }
+        if (errors.hasErrors()) {
+            throw new BindException(errors);
+        }
+        return items;
+    }
+}
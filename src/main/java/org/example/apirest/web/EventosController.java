@@ -1,29 +1,51 @@
 package org.example.apirest.web;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.example.apirest.cache.EventoDetailCache;
+import org.example.apirest.dto.bulk.ImportReportDTO;
 import org.example.apirest.dto.evento.EventoRequestDTO;
 import org.example.apirest.dto.evento.EventoResponseDTO;
 import org.example.apirest.dto.evento.EventoWithParticipantesDTO;
+import org.example.apirest.dto.pagination.CountMode;
+import org.example.apirest.dto.pagination.CursorPageDTO;
 import org.example.apirest.dto.participante.ParticipanteRequestDTO;
 import org.example.apirest.dto.participante.ParticipanteResponseDTO;
 import org.example.apirest.entity.Evento;
 import org.example.apirest.entity.Organizador;
 import org.example.apirest.entity.Participante;
+import org.example.apirest.io.DataFormat;
+import org.example.apirest.io.ImportReader;
+import org.example.apirest.io.ParticipanteExportWriter;
 import org.example.apirest.mapper.EventoMapper;
 import org.example.apirest.mapper.ParticipanteMapper;
 import org.example.apirest.service.EventoService;
+import org.example.apirest.service.ImportService;
 import org.example.apirest.service.OrganizadorService;
 import org.example.apirest.service.ParticipanteService;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/eventos")
@@ -33,24 +55,70 @@ public class EventosController {
     private final EventoService eventoService;
     private final OrganizadorService organizadorService;
     private final ParticipanteService participanteService;
+    private final ImportService importService;
     private final EventoMapper eventoMapper;
     private final ParticipanteMapper participanteMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final EventoDetailCache eventoDetailCache;
 
     @GetMapping
-    public ResponseEntity<Page<EventoResponseDTO>> getAllEventos(
-            @PageableDefault(size = 10, sort = "id") Pageable pageable) {
-        Page<EventoResponseDTO> eventos = eventoService.findAll(pageable)
-                .map(eventoMapper::toResponseDTO);
+    @QueryBudget(2)
+    public ResponseEntity<Slice<EventoResponseDTO>> getAllEventos(
+            @PageableDefault(size = 10, sort = "id") Pageable pageable,
+            @RequestParam(defaultValue = "exact") String count) {
+        Slice<EventoResponseDTO> eventos = eventoService.findAllResponses(pageable, CountMode.from(count));
         return ResponseEntity.ok(eventos);
     }
 
+    @GetMapping(params = "limit")
+    @QueryBudget(1)
+    public ResponseEntity<CursorPageDTO<EventoResponseDTO>> getEventosByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam int limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String ubicacion) {
+        if (from == null && to == null && ubicacion == null) {
+            Slice<EventoResponseDTO> eventos = eventoService.findResponsesAfter(
+                    KeysetPagination.decodeAfterId(after), KeysetPagination.validateLimit(limit));
+            return ResponseEntity.ok(KeysetPagination.toCursorPage(eventos,
+                    evento -> KeysetPagination.encode(evento.getId())));
+        }
+        KeysetPagination.FechaCursor cursor = KeysetPagination.decodeAfterFecha(after);
+        Slice<EventoResponseDTO> eventos = eventoService.findResponsesByFecha(from, to, ubicacion,
+                cursor != null ? cursor.fecha() : null, cursor != null ? cursor.id() : null,
+                KeysetPagination.validateLimit(limit));
+        return ResponseEntity.ok(KeysetPagination.toCursorPage(eventos,
+                evento -> KeysetPagination.encode(evento.getFecha(), evento.getId())));
+    }
+
+    @GetMapping("/upcoming")
+    @QueryBudget(1)
+    public ResponseEntity<List<EventoResponseDTO>> getUpcomingEventos(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(eventoService.findUpcoming(KeysetPagination.validateLimit(limit)));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<EventoWithParticipantesDTO> getEventoById(@PathVariable Long id) {
-        Evento evento = eventoService.findById(id);
-        return ResponseEntity.ok(eventoMapper.toWithParticipantesDTO(evento));
+    @QueryBudget(2)
+    public ResponseEntity<byte[]> getEventoById(@PathVariable Long id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String etag = eventoDetailCache.peek(id)
+                    .map(EventoDetailCache.Detail::etag)
+                    .orElseGet(() -> eventoService.findDetailVersion(id).toETag());
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+        }
+        EventoDetailCache.Detail detail = eventoDetailCache.get(id, () -> loadDetail(id));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(detail.etag())
+                .body(detail.body());
     }
 
     @PostMapping
+    @QueryBudget(2)
     public ResponseEntity<EventoResponseDTO> createEvento(
             @Valid @RequestBody EventoRequestDTO requestDTO) {
         Organizador organizador = organizadorService.findById(requestDTO.getOrganizadorId());
@@ -60,32 +128,53 @@ public class EventosController {
     }
 
     @PutMapping("/{id}")
+    @QueryBudget(3)
     public ResponseEntity<EventoResponseDTO> updateEvento(
             @PathVariable Long id,
-            @Valid @RequestBody EventoRequestDTO requestDTO) {
+            @Valid @RequestBody EventoRequestDTO requestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = IfMatch.expectedVersion(ifMatch);
         Organizador organizador = organizadorService.findById(requestDTO.getOrganizadorId());
         Evento evento = eventoMapper.toEntity(requestDTO, organizador);
-        Evento updatedEvento = eventoService.update(id, evento);
-        return ResponseEntity.ok(eventoMapper.toResponseDTO(updatedEvento));
+        Evento updatedEvento = eventoService.update(id, evento, expectedVersion);
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(updatedEvento.getVersion()))
+                .body(eventoMapper.toResponseDTO(updatedEvento));
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MediaTypes.MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @QueryBudget(4)
+    public ResponseEntity<EventoResponseDTO> patchEvento(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws BindException {
+        Evento patchedEvento = eventoService.patch(id, patch, IfMatch.expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(patchedEvento.getVersion()))
+                .body(eventoMapper.toResponseDTO(patchedEvento));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteEvento(@PathVariable Long id) {
-        eventoService.deleteById(id);
+    @QueryBudget(3)
+    public ResponseEntity<Void> deleteEvento(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        eventoService.deleteById(id, IfMatch.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/search")
+    @QueryBudget(1)
     public ResponseEntity<List<EventoResponseDTO>> searchEventosByTitulo(
-            @RequestParam String titulo) {
-        List<EventoResponseDTO> eventos = eventoService.searchByTitulo(titulo)
-                .stream()
-                .map(eventoMapper::toResponseDTO)
-                .collect(Collectors.toList());
+            @RequestParam String titulo,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<EventoResponseDTO> eventos = eventoService.searchByTitulo(
+                titulo, KeysetPagination.validateLimit(limit));
         return ResponseEntity.ok(eventos);
     }
 
     @PostMapping("/{id}/participantes")
+    @QueryBudget(4)
     public ResponseEntity<ParticipanteResponseDTO> addParticipanteToEvento(
             @PathVariable Long id,
             @Valid @RequestBody ParticipanteRequestDTO requestDTO) {
@@ -95,16 +184,88 @@ public class EventosController {
         return new ResponseEntity<>(participanteMapper.toResponseDTO(savedParticipante), HttpStatus.CREATED);
     }
 
+    @PostMapping("/{id}/participantes:batch")
+    @QueryBudget(205)
+    public ResponseEntity<List<ParticipanteResponseDTO>> addParticipantesToEvento(
+            @PathVariable Long id,
+            @RequestBody List<ParticipanteRequestDTO> requestDTOs) throws BindException {
+        requestDTOs.forEach(requestDTO -> {
+            if (requestDTO != null && requestDTO.getEventoId() == null) {
+                requestDTO.setEventoId(id);
+            }
+        });
+        BatchValidation.validate(validator, requestDTOs, "participantes");
+        Evento evento = eventoService.findById(id);
+        List<Participante> participantes = requestDTOs.stream()
+                .map(requestDTO -> participanteMapper.toEntity(requestDTO, evento))
+                .toList();
+        List<Participante> savedParticipantes = participanteService.saveAll(id, participantes);
+        return new ResponseEntity<>(savedParticipantes.stream()
+                .map(participanteMapper::toResponseDTO)
+                .toList(), HttpStatus.CREATED);
+    }
+
     @GetMapping("/{id}/participantes")
-    public ResponseEntity<Page<ParticipanteResponseDTO>> getParticipantesByEvento(
+    @QueryBudget(2)
+    public ResponseEntity<Slice<ParticipanteResponseDTO>> getParticipantesByEvento(
             @PathVariable Long id,
-            @PageableDefault(size = 10, sort = "id") Pageable pageable) {
-        Page<ParticipanteResponseDTO> participantes = participanteService.findByEventoId(id, pageable)
-                .map(participanteMapper::toResponseDTO);
+            @PageableDefault(size = 10, sort = "id") Pageable pageable,
+            @RequestParam(defaultValue = "exact") String count) {
+        Slice<ParticipanteResponseDTO> participantes = participanteService.findResponsesByEventoId(
+                id, pageable, CountMode.from(count));
         return ResponseEntity.ok(participantes);
     }
 
+    @GetMapping(value = "/{id}/participantes", params = "limit")
+    @QueryBudget(1)
+    public ResponseEntity<CursorPageDTO<ParticipanteResponseDTO>> getParticipantesByEventoByCursor(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam int limit) {
+        Slice<ParticipanteResponseDTO> participantes = participanteService.findResponsesByEventoIdAfter(
+                id, KeysetPagination.decodeAfterId(after), KeysetPagination.validateLimit(limit));
+        return ResponseEntity.ok(KeysetPagination.toCursorPage(participantes,
+                participante -> KeysetPagination.encode(participante.getId())));
+    }
+
+    @PostMapping("/{id}/participantes/import")
+    @QueryBudget(QueryBudget.UNBOUNDED)
+    public ResponseEntity<ImportReportDTO> importParticipantesToEvento(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "csv") String format,
+            InputStream body) throws IOException {
+        DataFormat dataFormat = DataFormat.from(format);
+        Evento evento = eventoService.findById(id);
+        try (ImportReader<ParticipanteRequestDTO> reader = new ImportReader<>(
+                dataFormat, body, ParticipanteRequestDTO.class, objectMapper)) {
+            return ResponseEntity.ok(importService.importParticipantes(evento, reader));
+        }
+    }
+
+    @GetMapping("/{id}/participantes/export")
+    @QueryBudget(1)
+    public ResponseEntity<StreamingResponseBody> exportParticipantesByEvento(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        DataFormat dataFormat = DataFormat.from(format);
+        eventoService.findById(id);
+        StreamingResponseBody body = output -> {
+            ParticipanteExportWriter writer = new ParticipanteExportWriter(dataFormat, output, objectMapper);
+            participanteService.exportByEventoId(id,
+                    participante -> writer.write(participanteMapper.toResponseDTO(participante)));
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(dataFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("evento-" + id + "-participantes." + dataFormat.getValue())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @GetMapping("/{id}/participantes/{participanteId}")
+    @QueryBudget(1)
     public ResponseEntity<ParticipanteResponseDTO> getParticipanteByEvento(
             @PathVariable Long id,
             @PathVariable Long participanteId) {
@@ -113,7 +274,19 @@ public class EventosController {
     }
 
     @GetMapping("/echo")
+    @QueryBudget(0)
     public String echo() {
         return "echo";
     }
+
+    private EventoDetailCache.Detail loadDetail(Long id) {
+        Evento evento = eventoService.findDetailById(id);
+        EventoWithParticipantesDTO dto = eventoMapper.toWithParticipantesDTO(evento);
+        try {
+            return new EventoDetailCache.Detail(objectMapper.writeValueAsBytes(dto),
+                    eventoMapper.toDetailVersionDTO(evento).toETag());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package org.example.apirest.web;
+
+import org.example.apirest.exception.PreconditionFailedException;
+
+final class IfMatch {
+
+    private IfMatch() {
+    }
+
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        String etag = ifMatch.strip();
+        if (etag.length() < 2 || !etag.startsWith("\"") || !etag.endsWith("\"") || etag.indexOf(',') >= 0) {
+            throw new PreconditionFailedException("If-Match debe contener un único ETag fuerte: " + ifMatch);
+        }
+        String value = etag.substring(1, etag.length() - 1);
+        int separator = value.indexOf('-');
+        try {
+            return Long.valueOf(separator < 0 ? value : value.substring(0, separator));
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException("El ETag de If-Match no corresponde a ninguna versión: " + ifMatch);
+        }
+    }
+}
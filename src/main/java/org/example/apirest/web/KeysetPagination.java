@@ -0,0 +1,98 @@
+package org.example.apirest.web;
+
+import org.example.apirest.dto.pagination.CursorPageDTO;
+import org.example.apirest.exception.BusinessRuleException;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+final class KeysetPagination {
+
+    static final int MAX_LIMIT = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private KeysetPagination() {
+    }
+
+    static int validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessRuleException(
+                    String.format("El límite debe estar entre 1 y %d", MAX_LIMIT));
+        }
+        return limit;
+    }
+
+    static long decodeAfterId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(decode(cursor, 1).get(0));
+        } catch (NumberFormatException ex) {
+            throw invalidCursor(ex);
+        }
+    }
+
+    static FechaCursor decodeAfterFecha(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        List<String> parts = decode(cursor, 2);
+        try {
+            return new FechaCursor(LocalDateTime.parse(parts.get(0)), Long.parseLong(parts.get(1)));
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw invalidCursor(ex);
+        }
+    }
+
+    static List<String> decode(String cursor, int expectedParts) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw invalidCursor(ex);
+        }
+        List<String> parts = Arrays.asList(raw.split("\\" + SEPARATOR, -1));
+        if (parts.size() != expectedParts) {
+            throw invalidCursor(null);
+        }
+        return parts;
+    }
+
+    static String encode(Object... values) {
+        String raw = Arrays.stream(values)
+                .map(value -> value == null ? "" : value.toString())
+                .collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static <T> CursorPageDTO<T> toCursorPage(Slice<T> slice, Function<T, String> cursorOf) {
+        List<T> content = slice.getContent();
+        return CursorPageDTO.<T>builder()
+                .content(content)
+                .limit(slice.getSize())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor(content, slice.hasNext(), cursorOf))
+                .build();
+    }
+
+    static <T> String nextCursor(List<T> content, boolean hasNext, Function<T, String> cursorOf) {
+        return hasNext && !content.isEmpty() ? cursorOf.apply(content.get(content.size() - 1)) : null;
+    }
+
+    private static BusinessRuleException invalidCursor(Throwable cause) {
+        return new BusinessRuleException("El cursor de paginación no es válido", cause);
+    }
+
+    record FechaCursor(LocalDateTime fecha, Long id) {
+    }
+}
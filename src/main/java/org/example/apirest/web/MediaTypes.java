@@ -0,0 +1,9 @@
+package org.example.apirest.web;
+
+final class MediaTypes {
+
+    static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    private MediaTypes() {
+    }
+}
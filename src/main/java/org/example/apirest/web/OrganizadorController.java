@@ -1,21 +1,35 @@
 package org.example.apirest.web;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.apirest.dto.bulk.ImportReportDTO;
 import org.example.apirest.dto.evento.EventoSummaryDTO;
+import org.example.apirest.dto.organizador.OrganizadorDashboardDTO;
 import org.example.apirest.dto.organizador.OrganizadorRequestDTO;
+import org.example.apirest.dto.pagination.CountMode;
+import org.example.apirest.dto.pagination.CursorPageDTO;
 import org.example.apirest.dto.organizador.OrganizadorResponseDTO;
 import org.example.apirest.entity.Organizador;
-import org.example.apirest.mapper.EventoMapper;
+import org.example.apirest.io.DataFormat;
+import org.example.apirest.io.ImportReader;
 import org.example.apirest.mapper.OrganizadorMapper;
+import org.example.apirest.service.ImportService;
 import org.example.apirest.service.OrganizadorService;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,23 +40,45 @@ public class OrganizadorController {
 
     private final OrganizadorService organizadorService;
     private final OrganizadorMapper organizadorMapper;
-    private final EventoMapper eventoMapper;
+    private final ImportService importService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<Page<OrganizadorResponseDTO>> getAllOrganizadores(
-            @PageableDefault(size = 10, sort = "id") Pageable pageable) {
-        Page<OrganizadorResponseDTO> organizadores = organizadorService.findAll(pageable)
-                .map(organizadorMapper::toResponseDTO);
+    @QueryBudget(2)
+    public ResponseEntity<Slice<OrganizadorResponseDTO>> getAllOrganizadores(
+            @PageableDefault(size = 10, sort = "id") Pageable pageable,
+            @RequestParam(defaultValue = "exact") String count) {
+        Slice<OrganizadorResponseDTO> organizadores = organizadorService.findAllResponses(
+                pageable, CountMode.from(count));
         return ResponseEntity.ok(organizadores);
     }
 
+    @GetMapping(params = "limit")
+    @QueryBudget(1)
+    public ResponseEntity<CursorPageDTO<OrganizadorResponseDTO>> getOrganizadoresByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam int limit) {
+        Slice<OrganizadorResponseDTO> organizadores = organizadorService.findResponsesAfter(
+                KeysetPagination.decodeAfterId(after), KeysetPagination.validateLimit(limit));
+        return ResponseEntity.ok(KeysetPagination.toCursorPage(organizadores,
+                organizador -> KeysetPagination.encode(organizador.getId())));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<OrganizadorResponseDTO> getOrganizadorById(@PathVariable Long id) {
+    @QueryBudget(2)
+    public ResponseEntity<OrganizadorResponseDTO> getOrganizadorById(@PathVariable Long id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(String.valueOf(organizadorService.findVersion(id)))) {
+            return null;
+        }
         Organizador organizador = organizadorService.findById(id);
-        return ResponseEntity.ok(organizadorMapper.toResponseDTO(organizador));
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(organizador.getVersion()))
+                .body(organizadorMapper.toResponseDTO(organizador));
     }
 
     @PostMapping
+    @QueryBudget(2)
     public ResponseEntity<OrganizadorResponseDTO> createOrganizador(
             @Valid @RequestBody OrganizadorRequestDTO requestDTO) {
         Organizador organizador = organizadorMapper.toEntity(requestDTO);
@@ -50,22 +86,54 @@ public class OrganizadorController {
         return new ResponseEntity<>(organizadorMapper.toResponseDTO(savedOrganizador), HttpStatus.CREATED);
     }
 
+    @PostMapping("/import")
+    @QueryBudget(QueryBudget.UNBOUNDED)
+    public ResponseEntity<ImportReportDTO> importOrganizadores(
+            @RequestParam(defaultValue = "csv") String format,
+            InputStream body) throws IOException {
+        DataFormat dataFormat = DataFormat.from(format);
+        try (ImportReader<OrganizadorRequestDTO> reader = new ImportReader<>(
+                dataFormat, body, OrganizadorRequestDTO.class, objectMapper)) {
+            return ResponseEntity.ok(importService.importOrganizadores(reader));
+        }
+    }
+
     @PutMapping("/{id}")
+    @QueryBudget(3)
     public ResponseEntity<OrganizadorResponseDTO> updateOrganizador(
             @PathVariable Long id,
-            @Valid @RequestBody OrganizadorRequestDTO requestDTO) {
+            @Valid @RequestBody OrganizadorRequestDTO requestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Organizador organizador = organizadorMapper.toEntity(requestDTO);
-        Organizador updatedOrganizador = organizadorService.update(id, organizador);
-        return ResponseEntity.ok(organizadorMapper.toResponseDTO(updatedOrganizador));
+        Organizador updatedOrganizador = organizadorService.update(id, organizador, IfMatch.expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(updatedOrganizador.getVersion()))
+                .body(organizadorMapper.toResponseDTO(updatedOrganizador));
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MediaTypes.MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @QueryBudget(2)
+    public ResponseEntity<OrganizadorResponseDTO> patchOrganizador(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws BindException {
+        Organizador patchedOrganizador = organizadorService.patch(id, patch, IfMatch.expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(patchedOrganizador.getVersion()))
+                .body(organizadorMapper.toResponseDTO(patchedOrganizador));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteOrganizador(@PathVariable Long id) {
-        organizadorService.deleteById(id);
+    @QueryBudget(QueryBudget.UNBOUNDED)
+    public ResponseEntity<Void> deleteOrganizador(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        organizadorService.deleteById(id, IfMatch.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/search")
+    @QueryBudget(1)
     public ResponseEntity<List<OrganizadorResponseDTO>> searchOrganizadoresByNombre(
             @RequestParam String nombre) {
         List<OrganizadorResponseDTO> organizadores = organizadorService.searchByNombre(nombre)
@@ -76,12 +144,28 @@ public class OrganizadorController {
     }
 
     @GetMapping("/{id}/eventos")
+    @QueryBudget(2)
     public ResponseEntity<List<EventoSummaryDTO>> getEventosByOrganizador(@PathVariable Long id) {
-        Organizador organizador = organizadorService.findById(id);
-        List<EventoSummaryDTO> eventos = organizador.getEventos()
-                .stream()
-                .map(eventoMapper::toSummaryDTO)
-                .collect(Collectors.toList());
+        List<EventoSummaryDTO> eventos = organizadorService.findEventoSummaries(id);
         return ResponseEntity.ok(eventos);
     }
+
+    @GetMapping("/{id}/dashboard")
+    @QueryBudget(1)
+    public ResponseEntity<OrganizadorDashboardDTO> getDashboard(@PathVariable Long id) {
+        return ResponseEntity.ok(organizadorService.findDashboard(id));
+    }
+
+    @GetMapping(value = "/{id}/dashboard", params = "limit")
+    @QueryBudget(1)
+    public ResponseEntity<OrganizadorDashboardDTO> getDashboardByCursor(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam int limit) {
+        OrganizadorDashboardDTO dashboard = organizadorService.findDashboard(
+                id, KeysetPagination.decodeAfterId(after), KeysetPagination.validateLimit(limit));
+        dashboard.setNextCursor(KeysetPagination.nextCursor(
+                dashboard.getEventos(), dashboard.isHasNext(), evento -> KeysetPagination.encode(evento.getId())));
+        return ResponseEntity.ok(dashboard);
+    }
 }
@@ -1,23 +1,30 @@
 package org.example.apirest.web;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.apirest.dto.pagination.CountMode;
+import org.example.apirest.dto.pagination.CursorPageDTO;
 import org.example.apirest.dto.participante.ParticipanteRequestDTO;
 import org.example.apirest.dto.participante.ParticipanteResponseDTO;
 import org.example.apirest.dto.participante.ParticipanteWithEventoDTO;
+import org.example.apirest.dto.search.SearchIndexStatsDTO;
 import org.example.apirest.entity.Evento;
 import org.example.apirest.entity.Participante;
 import org.example.apirest.mapper.ParticipanteMapper;
 import org.example.apirest.service.EventoService;
 import org.example.apirest.service.ParticipanteService;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/participantes")
@@ -29,42 +36,88 @@ public class ParticipanteController {
     private final ParticipanteMapper participanteMapper;
 
     @GetMapping
-    public ResponseEntity<Page<ParticipanteResponseDTO>> getAllParticipantes(
-            @PageableDefault(size = 10, sort = "id") Pageable pageable) {
-        Page<ParticipanteResponseDTO> participantes = participanteService.findAll(pageable)
-                .map(participanteMapper::toResponseDTO);
+    @QueryBudget(2)
+    public ResponseEntity<Slice<ParticipanteResponseDTO>> getAllParticipantes(
+            @PageableDefault(size = 10, sort = "id") Pageable pageable,
+            @RequestParam(defaultValue = "exact") String count) {
+        Slice<ParticipanteResponseDTO> participantes = participanteService.findAllResponses(
+                pageable, CountMode.from(count));
         return ResponseEntity.ok(participantes);
     }
 
+    @GetMapping(params = "limit")
+    @QueryBudget(1)
+    public ResponseEntity<CursorPageDTO<ParticipanteResponseDTO>> getParticipantesByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam int limit) {
+        Slice<ParticipanteResponseDTO> participantes = participanteService.findResponsesAfter(
+                KeysetPagination.decodeAfterId(after), KeysetPagination.validateLimit(limit));
+        return ResponseEntity.ok(KeysetPagination.toCursorPage(participantes,
+                participante -> KeysetPagination.encode(participante.getId())));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ParticipanteWithEventoDTO> getParticipanteById(@PathVariable Long id) {
-        Participante participante = participanteService.findById(id);
-        return ResponseEntity.ok(participanteMapper.toWithEventoDTO(participante));
+    @QueryBudget(2)
+    public ResponseEntity<ParticipanteWithEventoDTO> getParticipanteById(@PathVariable Long id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(participanteService.findDetailVersion(id).toETag())) {
+            return null;
+        }
+        Participante participante = participanteService.findDetailById(id);
+        return ResponseEntity.ok()
+                .eTag(participanteMapper.toDetailVersionDTO(participante).toETag())
+                .body(participanteMapper.toWithEventoDTO(participante));
     }
 
     @GetMapping("/search")
+    @QueryBudget(1)
     public ResponseEntity<List<ParticipanteResponseDTO>> searchParticipantesByEmail(
-            @RequestParam String email) {
-        List<ParticipanteResponseDTO> participantes = participanteService.searchByEmail(email)
-                .stream()
-                .map(participanteMapper::toResponseDTO)
-                .collect(Collectors.toList());
+            @RequestParam String email,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<ParticipanteResponseDTO> participantes = participanteService.searchByEmail(
+                email, KeysetPagination.validateLimit(limit));
         return ResponseEntity.ok(participantes);
     }
 
+    @GetMapping("/search/stats")
+    @QueryBudget(0)
+    public ResponseEntity<SearchIndexStatsDTO> getSearchIndexStats() {
+        return ResponseEntity.ok(participanteService.searchIndexStats());
+    }
+
     @PutMapping("/{id}")
+    @QueryBudget(6)
     public ResponseEntity<ParticipanteResponseDTO> updateParticipante(
             @PathVariable Long id,
-            @Valid @RequestBody ParticipanteRequestDTO requestDTO) {
+            @Valid @RequestBody ParticipanteRequestDTO requestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = IfMatch.expectedVersion(ifMatch);
         Evento evento = eventoService.findById(requestDTO.getEventoId());
         Participante participante = participanteMapper.toEntity(requestDTO, evento);
-        Participante updatedParticipante = participanteService.update(id, participante);
-        return ResponseEntity.ok(participanteMapper.toResponseDTO(updatedParticipante));
+        Participante updatedParticipante = participanteService.update(id, participante, expectedVersion);
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(updatedParticipante.getVersion()))
+                .body(participanteMapper.toResponseDTO(updatedParticipante));
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MediaTypes.MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @QueryBudget(5)
+    public ResponseEntity<ParticipanteResponseDTO> patchParticipante(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws BindException {
+        Participante patchedParticipante = participanteService.patch(id, patch, IfMatch.expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(patchedParticipante.getVersion()))
+                .body(participanteMapper.toResponseDTO(patchedParticipante));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteParticipante(@PathVariable Long id) {
-        participanteService.deleteById(id);
+    @QueryBudget(3)
+    public ResponseEntity<Void> deleteParticipante(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        participanteService.deleteById(id, IfMatch.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,8 @@
+package org.example.apirest.web;
+
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
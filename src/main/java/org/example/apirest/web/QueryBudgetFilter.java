@@ -0,0 +1,112 @@
+package org.example.apirest.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.apirest.jdbc.QueryCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+@Slf4j
+@Component
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private final boolean exposeHeader;
+    private final boolean failOnExceeded;
+
+    public QueryBudgetFilter(@Value("${app.query-budget.expose-header:false}") boolean exposeHeader,
+                             @Value("${app.query-budget.fail-on-exceeded:false}") boolean failOnExceeded) {
+        this.exposeHeader = exposeHeader;
+        this.failOnExceeded = failOnExceeded;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCounter.reset();
+        QueryCountResponse countingResponse = exposeHeader ? new QueryCountResponse(response) : null;
+        chain.doFilter(request, countingResponse != null ? countingResponse : response);
+        if (countingResponse != null) {
+            countingResponse.writeCount();
+        }
+
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler)) {
+            return;
+        }
+        QueryBudget budget = handler.getMethodAnnotation(QueryBudget.class);
+        long count = QueryCounter.count();
+        if (budget == null || count <= budget.value()) {
+            return;
+        }
+        String message = String.format("%s %s ejecutó %d consultas con un presupuesto de %d (%s)",
+                request.getMethod(), request.getRequestURI(), count, budget.value(), handler.getShortLogMessage());
+        if (failOnExceeded) {
+            throw new QueryBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+
+    private static final class QueryCountResponse extends HttpServletResponseWrapper {
+
+        private boolean written;
+
+        QueryCountResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        void writeCount() {
+            if (!written && !isCommitted()) {
+                written = true;
+                setHeader(QUERY_COUNT_HEADER, String.valueOf(QueryCounter.count()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeCount();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeCount();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeCount();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeCount();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeCount();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeCount();
+            super.sendRedirect(location);
+        }
+    }
+}
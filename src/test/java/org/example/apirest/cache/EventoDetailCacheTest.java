@@ -0,0 +1,229 @@
+package org.example.apirest.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.apirest.event.ChangeType;
+import org.example.apirest.event.EventoChangedEvent;
+import org.example.apirest.event.OrganizadorChangedEvent;
+import org.example.apirest.event.ParticipanteChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EventoDetailCache Tests")
+class EventoDetailCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventoDetailCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new EventoDetailCache(Duration.ofMinutes(1), 100, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should share one in-flight load between concurrent readers of the same evento")
+    void testConcurrentReadersShareOneLoad() throws Exception {
+        // Given
+        int readers = 8;
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        List<Future<EventoDetailCache.Detail>> results = new ArrayList<>();
+
+        // When
+        try {
+            results.add(executor.submit(() -> cache.get(1L, () -> {
+                loading.countDown();
+                await(release);
+                return detail("1-" + loads.incrementAndGet());
+            })));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < readers; i++) {
+                results.add(executor.submit(() -> cache.get(1L, () -> detail("1-" + loads.incrementAndGet()))));
+            }
+            while (count("joined") < readers - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Then
+            for (Future<EventoDetailCache.Detail> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).etag()).isEqualTo("1-1");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(count("loaded")).isEqualTo(1);
+        assertThat(count("joined")).isEqualTo(readers - 1);
+    }
+
+    @Test
+    @DisplayName("Should serve the same serialized detail while the micro-cache window is open")
+    void testGetCachesDetailWithinTtl() {
+        // When
+        EventoDetailCache.Detail first = cache.get(1L, () -> detail("1-" + loads.incrementAndGet()));
+        EventoDetailCache.Detail second = cache.get(1L, () -> detail("1-" + loads.incrementAndGet()));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(count("cached")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reload once the micro-cache window has passed")
+    void testGetReloadsAfterTtl() {
+        // Given
+        cache = new EventoDetailCache(Duration.ZERO, 100, meterRegistry);
+
+        // When
+        cache.get(1L, () -> detail("1-" + loads.incrementAndGet()));
+        EventoDetailCache.Detail second = cache.get(1L, () -> detail("1-" + loads.incrementAndGet()));
+
+        // Then
+        assertThat(second.etag()).isEqualTo("1-2");
+        assertThat(count("loaded")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should peek only at a completed detail inside the micro-cache window")
+    void testPeek() {
+        // Given
+        EventoDetailCache.Detail loadedDetail = cache.get(1L, () -> detail("1-1"));
+
+        // When
+        EventoDetailCache.Detail peeked = cache.peek(1L).orElseThrow();
+
+        // Then
+        assertThat(peeked).isSameAs(loadedDetail);
+        assertThat(cache.peek(2L)).isEmpty();
+        assertThat(count("cached")).isEqualTo(1);
+
+        // When
+        cache = new EventoDetailCache(Duration.ZERO, 100, meterRegistry);
+        cache.get(1L, () -> detail("1-1"));
+
+        // Then
+        assertThat(cache.peek(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not peek at a load that is still in flight")
+    void testPeekIgnoresLoadInFlight() {
+        // When
+        EventoDetailCache.Detail loadedDetail = cache.get(1L, () -> {
+            assertThat(cache.peek(1L)).isEmpty();
+            return detail("1-1");
+        });
+
+        // Then
+        assertThat(cache.peek(1L)).contains(loadedDetail);
+    }
+
+    @Test
+    @DisplayName("Should propagate a failed load to its caller and not keep it")
+    void testFailedLoadIsNotCached() {
+        // When & Then
+        assertThatThrownBy(() -> cache.get(1L, () -> {
+            throw new IllegalStateException("fallo");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get(1L, () -> detail("1-1")).etag()).isEqualTo("1-1");
+    }
+
+    @Test
+    @DisplayName("Should invalidate the evento on update but not on insert")
+    void testEventoChangesInvalidateDetail() {
+        // Given
+        cache.get(1L, () -> detail("1-" + loads.incrementAndGet()));
+
+        // When
+        cache.onEventoChanged(new EventoChangedEvent(1L, ChangeType.CREATED));
+        cache.get(1L, () -> detail("1-" + loads.incrementAndGet()));
+        cache.onEventoChanged(new EventoChangedEvent(1L, ChangeType.UPDATED));
+        EventoDetailCache.Detail result = cache.get(1L, () -> detail("1-" + loads.incrementAndGet()));
+
+        // Then
+        assertThat(result.etag()).isEqualTo("1-2");
+    }
+
+    @Test
+    @DisplayName("Should invalidate both eventos when a participante moves")
+    void testParticipanteMoveInvalidatesBothEventos() {
+        // Given
+        cache.get(1L, () -> detail("1-1"));
+        cache.get(2L, () -> detail("2-1"));
+        cache.get(3L, () -> detail("3-1"));
+
+        // When
+        cache.onParticipanteChanged(new ParticipanteChangedEvent(9L, 2L, 1L, "p@test.com", ChangeType.UPDATED));
+
+        // Then
+        assertThat(cache.get(1L, () -> detail("1-2")).etag()).isEqualTo("1-2");
+        assertThat(cache.get(2L, () -> detail("2-2")).etag()).isEqualTo("2-2");
+        assertThat(cache.get(3L, () -> detail("3-2")).etag()).isEqualTo("3-1");
+    }
+
+    @Test
+    @DisplayName("Should drop every detail when an organizador changes")
+    void testOrganizadorChangeInvalidatesAll() {
+        // Given
+        cache.get(1L, () -> detail("1-1"));
+        cache.get(2L, () -> detail("2-1"));
+
+        // When
+        cache.onOrganizadorChanged(new OrganizadorChangedEvent(5L, ChangeType.UPDATED));
+
+        // Then
+        assertThat(cache.get(1L, () -> detail("1-2")).etag()).isEqualTo("1-2");
+        assertThat(cache.get(2L, () -> detail("2-2")).etag()).isEqualTo("2-2");
+    }
+
+    @Test
+    @DisplayName("Should not keep a detail loaded concurrently with an invalidation")
+    void testInvalidationDuringLoadIsNotCached() {
+        // When
+        EventoDetailCache.Detail stale = cache.get(1L, () -> {
+            cache.invalidate(1L);
+            return detail("1-1");
+        });
+        EventoDetailCache.Detail fresh = cache.get(1L, () -> detail("1-2"));
+
+        // Then
+        assertThat(stale.etag()).isEqualTo("1-1");
+        assertThat(fresh.etag()).isEqualTo("1-2");
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get(EventoDetailCache.METRIC).tag("outcome", outcome).counter().count();
+    }
+
+    private static EventoDetailCache.Detail detail(String etag) {
+        return new EventoDetailCache.Detail(("{\"etag\":\"" + etag + "\"}").getBytes(StandardCharsets.UTF_8), etag);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
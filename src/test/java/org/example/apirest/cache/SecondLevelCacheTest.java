@@ -0,0 +1,221 @@
+package org.example.apirest.cache;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.apirest.entity.Evento;
+import org.example.apirest.entity.Organizador;
+import org.example.apirest.entity.Participante;
+import org.example.apirest.exception.ResourceNotFoundException;
+import org.example.apirest.repository.EventoRepository;
+import org.example.apirest.repository.OrganizadorRepository;
+import org.example.apirest.service.EventoService;
+import org.example.apirest.service.OrganizadorService;
+import org.example.apirest.service.ParticipanteService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Second Level Cache Tests")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private OrganizadorService organizadorService;
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private ParticipanteService participanteService;
+
+    @Autowired
+    private OrganizadorRepository organizadorRepository;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Organizador organizador;
+    private Evento evento;
+    private Statistics statistics;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        organizador = new Organizador();
+        organizador.setNombre("Test Organizador");
+        organizador.setEmail("org@test.com");
+        organizadorRepository.save(organizador);
+
+        evento = new Evento();
+        evento.setTitulo("Evento cacheado");
+        evento.setDescripcion("Descripcion");
+        evento.setOrganizador(organizador);
+        eventoRepository.save(evento);
+
+        cache = entityManagerFactory.getCache();
+        cache.evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventoRepository.deleteAll();
+        organizadorRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated organizador lookups from the second-level cache")
+    void testOrganizadorLookupIsCached() {
+        // When
+        organizadorService.findById(organizador.getId());
+        long statementsAfterFirstRead = statistics.getPrepareStatementCount();
+        organizadorService.findById(organizador.getId());
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstRead);
+        assertThat(statistics.getDomainDataRegionStatistics("organizadores").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("organizadores").getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return the updated organizador after update")
+    void testOrganizadorUpdateRefreshesCache() {
+        // Given
+        organizadorService.findById(organizador.getId());
+        Organizador cambios = new Organizador();
+        cambios.setNombre("Nombre nuevo");
+        cambios.setEmail("org@test.com");
+
+        // When
+        organizadorService.update(organizador.getId(), cambios);
+        Organizador result = organizadorService.findById(organizador.getId());
+
+        // Then
+        assertThat(result.getNombre()).isEqualTo("Nombre nuevo");
+        assertThat(statistics.getDomainDataRegionStatistics("organizadores").getHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should evict organizador from the cache on deleteById")
+    void testOrganizadorDeleteEvictsCache() {
+        // Given
+        eventoRepository.deleteAll();
+        organizadorService.findById(organizador.getId());
+        assertThat(cache.contains(Organizador.class, organizador.getId())).isTrue();
+
+        // When
+        organizadorService.deleteById(organizador.getId());
+        statistics.clear();
+
+        // Then
+        assertThatThrownBy(() -> organizadorService.findById(organizador.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(statistics.getDomainDataRegionStatistics("organizadores").getHitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return the updated evento after update")
+    void testEventoUpdateRefreshesCache() {
+        // Given
+        eventoService.findById(evento.getId());
+        Evento cambios = new Evento();
+        cambios.setTitulo("Titulo nuevo");
+        cambios.setDescripcion("Descripcion");
+        cambios.setOrganizador(organizador);
+
+        // When
+        eventoService.update(evento.getId(), cambios);
+        Evento result = eventoService.findById(evento.getId());
+
+        // Then
+        assertThat(result.getTitulo()).isEqualTo("Titulo nuevo");
+    }
+
+    @Test
+    @DisplayName("Should evict evento from the cache on deleteById")
+    void testEventoDeleteEvictsCache() {
+        // Given
+        eventoService.findById(evento.getId());
+        assertThat(cache.contains(Evento.class, evento.getId())).isTrue();
+
+        // When
+        eventoService.deleteById(evento.getId());
+        statistics.clear();
+
+        // Then
+        assertThatThrownBy(() -> eventoService.findById(evento.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(statistics.getDomainDataRegionStatistics("eventos").getHitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict the cached participantes collection when a participante is added")
+    void testParticipanteSaveEvictsCollectionCache() {
+        // Given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Integer before = transaction.execute(status -> participantesDe(evento.getId()));
+
+        Participante participante = new Participante();
+        participante.setNombre("Nuevo");
+        participante.setEmail("nuevo@test.com");
+        participante.setEvento(evento);
+
+        // When
+        participanteService.save(participante);
+
+        // Then
+        Integer after = transaction.execute(status -> participantesDe(evento.getId()));
+        assertThat(before).isZero();
+        assertThat(after).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should read a fresh counter while the evento stays cached")
+    void testParticipanteSaveKeepsEventoCachedWithFreshCounter() {
+        // Given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Integer before = transaction.execute(status -> numParticipantesDe(evento.getId()));
+        assertThat(cache.contains(Evento.class, evento.getId())).isTrue();
+
+        Participante participante = new Participante();
+        participante.setNombre("Nuevo");
+        participante.setEmail("contador@test.com");
+        participante.setEvento(evento);
+
+        // When
+        participanteService.save(participante);
+
+        // Then
+        Integer after = transaction.execute(status -> numParticipantesDe(evento.getId()));
+        assertThat(cache.contains(Evento.class, evento.getId())).isTrue();
+        assertThat(before).isZero();
+        assertThat(after).isEqualTo(1);
+    }
+
+    private int participantesDe(Long eventoId) {
+        return eventoRepository.findById(eventoId).orElseThrow().getParticipantes().size();
+    }
+
+    private int numParticipantesDe(Long eventoId) {
+        return eventoRepository.findById(eventoId).orElseThrow().getContador().getNumParticipantes();
+    }
+}
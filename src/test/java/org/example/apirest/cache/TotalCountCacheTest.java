@@ -0,0 +1,101 @@
+package org.example.apirest.cache;
+
+import org.example.apirest.event.ChangeType;
+import org.example.apirest.event.EventoChangedEvent;
+import org.example.apirest.event.ParticipanteChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TotalCountCache Tests")
+class TotalCountCacheTest {
+
+    private TotalCountCache cache;
+    private AtomicLong loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TotalCountCache(Duration.ofMinutes(1), 100);
+        loads = new AtomicLong();
+    }
+
+    @Test
+    @DisplayName("Should count once while the cached total is fresh")
+    void testGetCachesTotal() {
+        // When
+        long first = cache.get(TotalCountCache.EVENTOS, () -> loads.incrementAndGet() * 10);
+        long second = cache.get(TotalCountCache.EVENTOS, () -> loads.incrementAndGet() * 10);
+
+        // Then
+        assertThat(first).isEqualTo(10);
+        assertThat(second).isEqualTo(10);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should recount after the TTL expires")
+    void testGetReloadsAfterTtl() {
+        // Given
+        cache = new TotalCountCache(Duration.ZERO, 100);
+
+        // When
+        cache.get(TotalCountCache.EVENTOS, loads::incrementAndGet);
+        cache.get(TotalCountCache.EVENTOS, loads::incrementAndGet);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should invalidate eventos total on insert but not on update")
+    void testEventoChangesInvalidateTotals() {
+        // Given
+        cache.get(TotalCountCache.EVENTOS, loads::incrementAndGet);
+
+        // When
+        cache.onEventoChanged(new EventoChangedEvent(1L, ChangeType.UPDATED));
+        cache.get(TotalCountCache.EVENTOS, loads::incrementAndGet);
+        cache.onEventoChanged(new EventoChangedEvent(2L, ChangeType.CREATED));
+        cache.get(TotalCountCache.EVENTOS, loads::incrementAndGet);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should invalidate both eventos when a participante moves")
+    void testParticipanteMoveInvalidatesBothEventos() {
+        // Given
+        String origen = TotalCountCache.participantesDeEvento(1L);
+        String destino = TotalCountCache.participantesDeEvento(2L);
+        cache.get(origen, () -> 5);
+        cache.get(destino, () -> 7);
+
+        // When
+        cache.onParticipanteChanged(new ParticipanteChangedEvent(9L, 2L, 1L, "p@test.com", ChangeType.UPDATED));
+
+        // Then
+        assertThat(cache.get(origen, () -> 4)).isEqualTo(4);
+        assertThat(cache.get(destino, () -> 8)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should not store a total loaded concurrently with an invalidation")
+    void testInvalidationDuringLoadIsNotCached() {
+        // When
+        long stale = cache.get(TotalCountCache.PARTICIPANTES, () -> {
+            cache.invalidate(TotalCountCache.PARTICIPANTES);
+            return 3;
+        });
+        long fresh = cache.get(TotalCountCache.PARTICIPANTES, () -> 4);
+
+        // Then
+        assertThat(stale).isEqualTo(3);
+        assertThat(fresh).isEqualTo(4);
+    }
+}
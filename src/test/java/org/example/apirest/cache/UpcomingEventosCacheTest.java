@@ -0,0 +1,175 @@
+package org.example.apirest.cache;
+
+import org.example.apirest.dto.evento.EventoResponseDTO;
+import org.example.apirest.event.ChangeType;
+import org.example.apirest.event.EventoChangedEvent;
+import org.example.apirest.event.OrganizadorChangedEvent;
+import org.example.apirest.event.ParticipanteChangedEvent;
+import org.example.apirest.repository.EventoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UpcomingEventosCache Tests")
+class UpcomingEventosCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 3, 4, 10, 0);
+
+    @Mock
+    private EventoRepository eventoRepository;
+
+    private UpcomingEventosCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UpcomingEventosCache(eventoRepository, 3);
+    }
+
+    @Test
+    @DisplayName("Should serve the next eventos from memory until a write")
+    void testGetServesSnapshot() {
+        // Given
+        when(eventoRepository.findUpcomingResponses(eq(NOW), any(Pageable.class)))
+                .thenReturn(List.of(evento(1L, 1), evento(2L, 2), evento(3L, 3)));
+
+        // When
+        List<EventoResponseDTO> first = cache.get(NOW, 2);
+        List<EventoResponseDTO> second = cache.get(NOW, 3);
+
+        // Then
+        assertThat(first).extracting(EventoResponseDTO::getId).containsExactly(1L, 2L);
+        assertThat(second).extracting(EventoResponseDTO::getId).containsExactly(1L, 2L, 3L);
+        verify(eventoRepository, times(1)).findUpcomingResponses(eq(NOW), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should skip eventos that have started and reload when the snapshot runs short")
+    void testGetDropsPastEventos() {
+        // Given
+        LocalDateTime later = NOW.plusHours(2).plusMinutes(30);
+        when(eventoRepository.findUpcomingResponses(eq(NOW), any(Pageable.class)))
+                .thenReturn(List.of(evento(1L, 1), evento(2L, 2), evento(3L, 3)));
+        when(eventoRepository.findUpcomingResponses(eq(later), any(Pageable.class)))
+                .thenReturn(List.of(evento(3L, 3), evento(4L, 4)));
+        cache.get(NOW, 3);
+
+        // When
+        List<EventoResponseDTO> fromSnapshot = cache.get(NOW.plusHours(1).plusMinutes(30), 1);
+        List<EventoResponseDTO> reloaded = cache.get(later, 2);
+
+        // Then
+        assertThat(fromSnapshot).extracting(EventoResponseDTO::getId).containsExactly(2L);
+        assertThat(reloaded).extracting(EventoResponseDTO::getId).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should not reload when every upcoming evento is already in memory")
+    void testGetCompleteSnapshot() {
+        // Given
+        when(eventoRepository.findUpcomingResponses(eq(NOW), any(Pageable.class)))
+                .thenReturn(List.of(evento(1L, 1)));
+
+        // When
+        cache.get(NOW, 3);
+        List<EventoResponseDTO> result = cache.get(NOW.plusHours(2), 3);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(eventoRepository, times(1)).findUpcomingResponses(any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should reload after evento and organizador writes")
+    void testWritesInvalidateSnapshot() {
+        // Given
+        when(eventoRepository.findUpcomingResponses(eq(NOW), any(Pageable.class)))
+                .thenReturn(List.of(evento(1L, 1)));
+        cache.get(NOW, 3);
+
+        // When
+        cache.onEventoChanged(new EventoChangedEvent(9L, ChangeType.CREATED));
+        cache.get(NOW, 3);
+        cache.onOrganizadorChanged(new OrganizadorChangedEvent(5L, ChangeType.CREATED));
+        cache.get(NOW, 3);
+        cache.onOrganizadorChanged(new OrganizadorChangedEvent(5L, ChangeType.UPDATED));
+        cache.get(NOW, 3);
+
+        // Then
+        verify(eventoRepository, times(3)).findUpcomingResponses(eq(NOW), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should update the counters in place on registrations instead of reloading")
+    void testParticipanteChangesUpdateCountersInPlace() {
+        // Given
+        when(eventoRepository.findUpcomingResponses(eq(NOW), any(Pageable.class)))
+                .thenReturn(List.of(evento(1L, 1), evento(2L, 2)));
+        List<EventoResponseDTO> before = cache.get(NOW, 3);
+
+        // When
+        cache.onParticipanteChanged(new ParticipanteChangedEvent(7L, 1L, "p@test.com", ChangeType.CREATED));
+        cache.onParticipanteChanged(new ParticipanteChangedEvent(8L, 1L, "q@test.com", ChangeType.CREATED));
+        cache.onParticipanteChanged(new ParticipanteChangedEvent(7L, 2L, 1L, "p@test.com", ChangeType.UPDATED));
+        cache.onParticipanteChanged(new ParticipanteChangedEvent(9L, 5L, "r@test.com", ChangeType.CREATED));
+        cache.onParticipanteChanged(new ParticipanteChangedEvent(8L, 1L, "q@test.com", ChangeType.UPDATED));
+        List<EventoResponseDTO> after = cache.get(NOW, 3);
+
+        // Then
+        assertThat(after).extracting(EventoResponseDTO::getNumParticipantes).containsExactly(1, 1);
+        assertThat(before).extracting(EventoResponseDTO::getNumParticipantes).containsExactly(0, 0);
+        verify(eventoRepository, times(1)).findUpcomingResponses(eq(NOW), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should not keep a snapshot loaded concurrently with a registration")
+    void testRegistrationDuringLoadIsNotCached() {
+        // Given
+        when(eventoRepository.findUpcomingResponses(eq(NOW), any(Pageable.class))).thenAnswer(invocation -> {
+            cache.onParticipanteChanged(new ParticipanteChangedEvent(7L, 1L, "p@test.com", ChangeType.DELETED));
+            return List.of(evento(1L, 1));
+        });
+
+        // When
+        cache.get(NOW, 3);
+        cache.get(NOW, 3);
+
+        // Then
+        verify(eventoRepository, times(2)).findUpcomingResponses(eq(NOW), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should not keep a snapshot loaded concurrently with a write")
+    void testInvalidationDuringLoadIsNotCached() {
+        // Given
+        when(eventoRepository.findUpcomingResponses(eq(NOW), any(Pageable.class))).thenAnswer(invocation -> {
+            cache.invalidate();
+            return List.of(evento(1L, 1));
+        });
+
+        // When
+        cache.get(NOW, 3);
+        cache.get(NOW, 3);
+
+        // Then
+        verify(eventoRepository, times(2)).findUpcomingResponses(eq(NOW), any(Pageable.class));
+    }
+
+    private static EventoResponseDTO evento(Long id, int hoursFromNow) {
+        return EventoResponseDTO.builder().id(id).titulo("Evento " + id).fecha(NOW.plusHours(hoursFromNow)).build();
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.apirest.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("virtual-threads")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@DisplayName("Virtual Threads Profile Tests")
+class VirtualThreadsProfileTest {
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Should run Tomcat request handling on virtual threads")
+    void testTomcatUsesVirtualThreads() {
+        // When
+        TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+
+        // Then
+        assertThat(webServer.getTomcat().getConnector().getProtocolHandler().getExecutor())
+                .isInstanceOf(VirtualThreadExecutor.class);
+    }
+
+    @Test
+    @DisplayName("Should run async work on virtual threads")
+    void testApplicationTaskExecutorUsesVirtualThreads() throws Exception {
+        // When
+        Thread thread = applicationTaskExecutor.submit(Thread::currentThread).get();
+
+        // Then
+        assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("Should size the connection pool for virtual threads")
+    void testConnectionPoolSizing() throws Exception {
+        // When
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+
+        // Then
+        assertThat(hikari.getMaximumPoolSize()).isEqualTo(20);
+        assertThat(hikari.getConnectionTimeout()).isEqualTo(10000);
+    }
+}
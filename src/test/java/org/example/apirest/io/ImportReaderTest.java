@@ -0,0 +1,108 @@
+package org.example.apirest.io;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.apirest.dto.participante.ParticipanteRequestDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ImportReader Tests")
+class ImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Test
+    @DisplayName("Should map CSV columns by header and handle quoted fields")
+    void testReadCsv() throws IOException {
+        // Given
+        String csv = "nombre,email,telefono\r\n" +
+                "Ana García,ana@test.com,600000001\r\n" +
+                "\"Gil, Luis \"\"Lucho\"\"\",luis@test.com,\n" +
+                "\n" +
+                "\"Eva\nMaría\",eva@test.com,\n";
+
+        // When
+        List<ImportRecord<ParticipanteRequestDTO>> records = readAll(DataFormat.CSV, csv);
+
+        // Then
+        assertThat(records).hasSize(3).allMatch(ImportRecord::isValid);
+        assertThat(records).extracting(ImportRecord::line).containsExactly(2L, 3L, 5L);
+        assertThat(records.get(0).value().getTelefono()).isEqualTo("600000001");
+        assertThat(records.get(1).value().getNombre()).isEqualTo("Gil, Luis \"Lucho\"");
+        assertThat(records.get(1).value().getTelefono()).isNull();
+        assertThat(records.get(2).value().getNombre()).isEqualTo("Eva\nMaría");
+    }
+
+    @Test
+    @DisplayName("Should report malformed CSV rows and keep reading")
+    void testReadCsvWithErrors() throws IOException {
+        // Given
+        String csv = "nombre,email\n" +
+                "Ana García\n" +
+                "Luis Gil,luis@test.com\n" +
+                "\"Eva,eva@test.com";
+
+        // When
+        List<ImportRecord<ParticipanteRequestDTO>> records = readAll(DataFormat.CSV, csv);
+
+        // Then
+        assertThat(records).extracting(ImportRecord::isValid).containsExactly(false, true, false);
+        assertThat(records.get(0).error()).contains("columnas");
+        assertThat(records.get(2).error()).contains("Comillas");
+    }
+
+    @Test
+    @DisplayName("Should read one record per NDJSON line and report invalid lines")
+    void testReadNdjson() throws IOException {
+        // Given
+        String ndjson = "{\"nombre\":\"Ana García\",\"email\":\"ana@test.com\"}\n" +
+                "{\"nombre\":\n" +
+                "\n" +
+                "null\n" +
+                "{\"nombre\":\"Luis Gil\",\"email\":\"luis@test.com\",\"extra\":1}";
+
+        // When
+        List<ImportRecord<ParticipanteRequestDTO>> records = readAll(DataFormat.NDJSON, ndjson);
+
+        // Then
+        assertThat(records).extracting(ImportRecord::line).containsExactly(1L, 2L, 4L, 5L);
+        assertThat(records).extracting(ImportRecord::isValid).containsExactly(true, false, false, true);
+        assertThat(records.get(3).value().getEmail()).isEqualTo("luis@test.com");
+    }
+
+    @Test
+    @DisplayName("Should skip records longer than the maximum length")
+    void testReadRecordTooLong() throws IOException {
+        // Given
+        String ndjson = "{\"nombre\":\"" + "a".repeat(ImportReader.MAX_RECORD_LENGTH) + "\"}\n" +
+                "{\"nombre\":\"Ana García\",\"email\":\"ana@test.com\"}\n";
+
+        // When
+        List<ImportRecord<ParticipanteRequestDTO>> records = readAll(DataFormat.NDJSON, ndjson);
+
+        // Then
+        assertThat(records).extracting(ImportRecord::isValid).containsExactly(false, true);
+        assertThat(records.get(1).line()).isEqualTo(2L);
+    }
+
+    private List<ImportRecord<ParticipanteRequestDTO>> readAll(DataFormat format, String content) throws IOException {
+        List<ImportRecord<ParticipanteRequestDTO>> records = new ArrayList<>();
+        try (ImportReader<ParticipanteRequestDTO> reader = new ImportReader<>(format,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                ParticipanteRequestDTO.class, objectMapper)) {
+            for (ImportRecord<ParticipanteRequestDTO> record = reader.next(); record != null; record = reader.next()) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.apirest.io;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.apirest.dto.participante.ParticipanteResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ParticipanteExportWriter Tests")
+class ParticipanteExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void testWriteNdjson() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ParticipanteExportWriter writer = new ParticipanteExportWriter(DataFormat.NDJSON, output, objectMapper);
+
+        // When
+        writer.write(participante(1L, "Ana García", "ana@test.com", null));
+        writer.write(participante(2L, "Luis Gil", "luis@test.com", "600000001"));
+        writer.flush();
+
+        // Then
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"id\":1,\"nombre\":\"Ana García\",\"email\":\"ana@test.com\",\"telefono\":null}\n" +
+                "{\"id\":2,\"nombre\":\"Luis Gil\",\"email\":\"luis@test.com\",\"telefono\":\"600000001\"}\n");
+        assertThat(writer.getRows()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header and quote values that need it")
+    void testWriteCsv() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ParticipanteExportWriter writer = new ParticipanteExportWriter(DataFormat.CSV, output, objectMapper);
+
+        // When
+        writer.write(participante(1L, "García, Ana", "ana@test.com", null));
+        writer.write(participante(2L, "Luis \"Lucho\" Gil", "luis@test.com", "600000001"));
+        writer.flush();
+
+        // Then
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,nombre,email,telefono\n" +
+                "1,\"García, Ana\",ana@test.com,\n" +
+                "2,\"Luis \"\"Lucho\"\" Gil\",luis@test.com,600000001\n");
+    }
+
+    @Test
+    @DisplayName("Should write only the CSV header for an empty export")
+    void testWriteEmptyCsv() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ParticipanteExportWriter writer = new ParticipanteExportWriter(DataFormat.CSV, output, objectMapper);
+
+        // When
+        writer.flush();
+
+        // Then
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("id,nombre,email,telefono\n");
+        assertThat(writer.getRows()).isZero();
+    }
+
+    private ParticipanteResponseDTO participante(Long id, String nombre, String email, String telefono) {
+        return ParticipanteResponseDTO.builder().id(id).nombre(nombre).email(email).telefono(telefono).build();
+    }
+}
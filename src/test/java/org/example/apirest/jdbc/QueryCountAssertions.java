@@ -0,0 +1,22 @@
+package org.example.apirest.jdbc;
+
+import org.assertj.core.api.AbstractLongAssert;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static AbstractLongAssert<?> assertThatQueryCount(ThrowingCallable action) {
+        QueryCounter.reset();
+        try {
+            action.call();
+        } catch (Throwable e) {
+            throw new AssertionError("La acción medida lanzó una excepción", e);
+        }
+        return assertThat(QueryCounter.count()).as("consultas ejecutadas");
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.apirest.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+public final class StatementRecorder implements QueryExecutionListener {
+
+    private final List<Statement> statements = Collections.synchronizedList(new ArrayList<>());
+
+    private StatementRecorder() {
+    }
+
+    public static List<String> record(DataSource dataSource, ThrowingCallable action) {
+        return recordStatements(dataSource, action).stream()
+                .map(statement -> statement.sql().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    public static List<Statement> recordStatements(DataSource dataSource, ThrowingCallable action) {
+        ChainListener chain = ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener();
+        StatementRecorder recorder = new StatementRecorder();
+        chain.addListener(recorder);
+        try {
+            action.call();
+        } catch (Throwable e) {
+            throw new AssertionError("La acción medida lanzó una excepción", e);
+        } finally {
+            chain.getListeners().remove(recorder);
+        }
+        return List.copyOf(recorder.statements);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            List<List<ParameterSetOperation>> parameters = queryInfo.getParametersList();
+            statements.add(new Statement(queryInfo.getQuery(),
+                    parameters.isEmpty() ? List.of() : List.copyOf(parameters.get(0))));
+        }
+    }
+
+    public record Statement(String sql, List<ParameterSetOperation> parameters) {
+    }
+}
@@ -1,13 +1,24 @@
 package org.example.apirest.repository;
 
+import org.example.apirest.dto.evento.EventoDetailVersionDTO;
+import org.example.apirest.dto.evento.EventoResponseDTO;
+import org.example.apirest.dto.evento.EventoSummaryDTO;
 import org.example.apirest.entity.Evento;
 import org.example.apirest.entity.Organizador;
+import org.example.apirest.entity.Participante;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.TestPropertySource;
 
 import java.time.LocalDateTime;
@@ -141,4 +152,377 @@ class EventoRepositoryTest {
         // Then
         assertThat(found).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should load evento with organizador and participantes in a single statement")
+    void testFindWithOrganizadorAndParticipantesById() {
+        // Given
+        Evento evento = new Evento();
+        evento.setTitulo("Evento detalle");
+        evento.setDescripcion("Descripcion");
+        evento.setOrganizador(organizador);
+        for (int i = 1; i <= 3; i++) {
+            Participante participante = new Participante();
+            participante.setNombre("Part " + i);
+            participante.setEmail("p" + i + "@test.com");
+            evento.addParticipante(participante);
+        }
+        entityManager.persistAndFlush(evento);
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        Optional<Evento> found = eventoRepository.findWithOrganizadorAndParticipantesById(evento.getId());
+
+        // Then
+        assertThat(found).isPresent();
+        assertThat(Hibernate.isInitialized(found.get().getOrganizador())).isTrue();
+        assertThat(Hibernate.isInitialized(found.get().getParticipantes())).isTrue();
+        assertThat(found.get().getOrganizador().getNombre()).isEqualTo("Test Organizador");
+        assertThat(found.get().getParticipantes()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should project eventos with organizador without hydrating entities")
+    void testFindAllResponses() {
+        // Given
+        for (int i = 1; i <= 3; i++) {
+            Evento evento = new Evento();
+            evento.setTitulo("Evento " + i);
+            evento.setDescripcion("Descripcion " + i);
+            evento.setUbicacion("Sala " + i);
+            evento.setOrganizador(organizador);
+            entityManager.persist(evento);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        Page<EventoResponseDTO> page = eventoRepository.findAllResponses(
+                PageRequest.of(0, 2, Sort.by("id")));
+
+        // Then
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent().get(0).getTitulo()).isEqualTo("Evento 1");
+        assertThat(page.getContent().get(0).getOrganizador().getNombre()).isEqualTo("Test Organizador");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should project evento summaries by organizador id")
+    void testFindSummariesByOrganizadorId() {
+        // Given
+        Evento evento = new Evento();
+        evento.setTitulo("Evento resumen");
+        evento.setDescripcion("Descripcion");
+        evento.setUbicacion("Madrid");
+        evento.setOrganizador(organizador);
+        entityManager.persistAndFlush(evento);
+
+        // When
+        List<EventoSummaryDTO> found = eventoRepository.findSummariesByOrganizadorId(organizador.getId());
+
+        // Then
+        assertThat(found).hasSize(1);
+        assertThat(found.get(0).getTitulo()).isEqualTo("Evento resumen");
+        assertThat(found.get(0).getUbicacion()).isEqualTo("Madrid");
+    }
+
+    @Test
+    @DisplayName("Should seek eventos after id without count query")
+    void testFindResponsesAfter() {
+        // Given
+        Long[] ids = new Long[4];
+        for (int i = 0; i < 4; i++) {
+            Evento evento = new Evento();
+            evento.setTitulo("Evento " + i);
+            evento.setDescripcion("Descripcion " + i);
+            evento.setOrganizador(organizador);
+            entityManager.persist(evento);
+            ids[i] = evento.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        Slice<EventoResponseDTO> slice = eventoRepository.findResponsesAfter(ids[0], PageRequest.ofSize(2));
+
+        // Then
+        assertThat(slice.getContent()).extracting(EventoResponseDTO::getId).containsExactly(ids[1], ids[2]);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should seek eventos by (fecha, id) inside a date range and ubicacion")
+    void testFindResponsesByFechaAfter() {
+        // Given
+        LocalDateTime lunes = LocalDateTime.of(2030, 3, 4, 10, 0);
+        Evento antes = persistEvento("Antes", lunes.minusDays(1), "Madrid");
+        Evento primero = persistEvento("Primero", lunes, "Madrid");
+        Evento empate = persistEvento("Empate", lunes, "madrid");
+        Evento otraCiudad = persistEvento("Otra ciudad", lunes.plusDays(1), "Sevilla");
+        Evento ultimo = persistEvento("Último", lunes.plusDays(2), "Madrid");
+        persistEvento("Límite", lunes.plusDays(7), "Madrid");
+        persistEvento("Sin fecha", null, "Madrid");
+        entityManager.flush();
+        entityManager.clear();
+        LocalDateTime to = lunes.plusDays(7);
+
+        // When
+        Slice<EventoResponseDTO> semana = eventoRepository.findResponsesByFechaAfter(
+                lunes, 0L, to, null, PageRequest.ofSize(10));
+        Slice<EventoResponseDTO> primeraPagina = eventoRepository.findResponsesByFechaAfter(
+                lunes, 0L, to, "MADRID", PageRequest.ofSize(2));
+        Slice<EventoResponseDTO> segundaPagina = eventoRepository.findResponsesByFechaAfter(
+                lunes, empate.getId(), to, "MADRID", PageRequest.ofSize(2));
+
+        // Then
+        assertThat(semana.getContent()).extracting(EventoResponseDTO::getId)
+                .containsExactly(primero.getId(), empate.getId(), otraCiudad.getId(), ultimo.getId())
+                .doesNotContain(antes.getId());
+        assertThat(primeraPagina.getContent()).extracting(EventoResponseDTO::getId)
+                .containsExactly(primero.getId(), empate.getId());
+        assertThat(primeraPagina.hasNext()).isTrue();
+        assertThat(segundaPagina.getContent()).extracting(EventoResponseDTO::getId)
+                .containsExactly(ultimo.getId());
+        assertThat(segundaPagina.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should list upcoming eventos ordered by fecha")
+    void testFindUpcomingResponses() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2030, 3, 4, 10, 0);
+        persistEvento("Pasado", now.minusHours(1), "Madrid");
+        Evento tarde = persistEvento("Tarde", now.plusDays(3), "Madrid");
+        Evento pronto = persistEvento("Pronto", now.plusHours(1), "Madrid");
+        persistEvento("Sin fecha", null, "Madrid");
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<EventoResponseDTO> upcoming = eventoRepository.findUpcomingResponses(now, PageRequest.ofSize(5));
+
+        // Then
+        assertThat(upcoming).extracting(EventoResponseDTO::getId).containsExactly(pronto.getId(), tarde.getId());
+    }
+
+    @Test
+    @DisplayName("Should read evento titles in id batches for the search index")
+    void testFindTitulosAfter() {
+        // Given
+        Long[] ids = new Long[3];
+        for (int i = 0; i < 3; i++) {
+            Evento evento = new Evento();
+            evento.setTitulo("Taller " + i);
+            evento.setDescripcion("Descripcion " + i);
+            evento.setOrganizador(organizador);
+            entityManager.persist(evento);
+            ids[i] = evento.getId();
+        }
+        entityManager.flush();
+
+        // When
+        List<IndexableText> batch = eventoRepository.findTitulosAfter(ids[0], PageRequest.ofSize(5));
+
+        // Then
+        assertThat(batch).extracting(IndexableText::getId).containsExactly(ids[1], ids[2]);
+        assertThat(batch).extracting(IndexableText::getText).containsExactly("Taller 1", "Taller 2");
+    }
+
+    @Test
+    @DisplayName("Should project eventos by a set of ids")
+    void testFindResponsesByIdIn() {
+        // Given
+        Evento evento1 = new Evento();
+        evento1.setTitulo("Java Conference");
+        evento1.setDescripcion("Descripcion");
+        evento1.setOrganizador(organizador);
+        entityManager.persist(evento1);
+
+        Evento evento2 = new Evento();
+        evento2.setTitulo("Spring Meetup");
+        evento2.setDescripcion("Descripcion");
+        evento2.setOrganizador(organizador);
+        entityManager.persist(evento2);
+        entityManager.flush();
+
+        // When
+        List<EventoResponseDTO> result = eventoRepository.findResponsesByIdIn(List.of(evento2.getId()));
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getTitulo()).isEqualTo("Spring Meetup");
+        assertThat(result.get(0).getOrganizador().getNombre()).isEqualTo("Test Organizador");
+    }
+
+    @Test
+    @DisplayName("Should bump the detail version when the evento roster changes")
+    void testFindDetailVersionById() {
+        // Given
+        Evento evento = new Evento();
+        evento.setTitulo("Java Conference");
+        evento.setDescripcion("Descripcion");
+        evento.setOrganizador(organizador);
+        entityManager.persist(evento);
+
+        Participante participante = new Participante();
+        participante.setNombre("Ana");
+        participante.setEmail("ana@test.com");
+        participante.setEvento(evento);
+        entityManager.persist(participante);
+        entityManager.flush();
+
+        // When
+        Optional<EventoDetailVersionDTO> before = eventoRepository.findDetailVersionById(evento.getId());
+        eventoRepository.reservePlazas(evento.getId(), 1);
+        eventoRepository.incrementRosterVersion(evento.getId());
+        eventoRepository.releasePlazas(evento.getId(), 1);
+        Optional<EventoDetailVersionDTO> after = eventoRepository.findDetailVersionById(evento.getId());
+
+        // Then
+        assertThat(before).contains(new EventoDetailVersionDTO(0L, 0L, 0L));
+        assertThat(after).contains(new EventoDetailVersionDTO(0L, 0L, 3L));
+        assertThat(before.get().toETag()).isEqualTo("0-0-0");
+        assertThat(after.get().toETag()).isEqualTo("0-0-3");
+    }
+
+    @Test
+    @DisplayName("Should read the detail version of an evento without participantes")
+    void testFindDetailVersionByIdWithoutParticipantes() {
+        // Given
+        Evento evento = new Evento();
+        evento.setTitulo("Java Conference");
+        evento.setDescripcion("Descripcion");
+        evento.setOrganizador(organizador);
+        entityManager.persistAndFlush(evento);
+
+        // When
+        Optional<EventoDetailVersionDTO> result = eventoRepository.findDetailVersionById(evento.getId());
+
+        // Then
+        assertThat(result).contains(new EventoDetailVersionDTO(0L, 0L, 0L));
+        assertThat(eventoRepository.findDetailVersionById(999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reserve plazas only while the evento has capacity left")
+    void testReservePlazas() {
+        // Given
+        Evento evento = new Evento();
+        evento.setTitulo("Taller");
+        evento.setDescripcion("Descripcion");
+        evento.setCapacidad(3);
+        evento.setOrganizador(organizador);
+        entityManager.persistAndFlush(evento);
+
+        // When
+        int primera = eventoRepository.reservePlazas(evento.getId(), 2);
+        int excedida = eventoRepository.reservePlazas(evento.getId(), 2);
+        int ultima = eventoRepository.reservePlazas(evento.getId(), 1);
+        int liberada = eventoRepository.releasePlazas(evento.getId(), 1);
+
+        // Then
+        assertThat(primera).isEqualTo(1);
+        assertThat(excedida).isZero();
+        assertThat(ultima).isEqualTo(1);
+        assertThat(liberada).isEqualTo(1);
+        assertThat(eventoRepository.findNumParticipantesById(evento.getId())).contains(2);
+    }
+
+    @Test
+    @DisplayName("Should always reserve plazas in an evento without capacidad")
+    void testReservePlazasWithoutCapacidad() {
+        // Given
+        Evento evento = new Evento();
+        evento.setTitulo("Meetup");
+        evento.setDescripcion("Descripcion");
+        evento.setOrganizador(organizador);
+        entityManager.persistAndFlush(evento);
+
+        // When
+        int result = eventoRepository.reservePlazas(evento.getId(), 500);
+
+        // Then
+        assertThat(result).isEqualTo(1);
+        assertThat(eventoRepository.findNumParticipantesById(evento.getId())).contains(500);
+    }
+
+    @Test
+    @DisplayName("Should lower capacidad only down to the registered participantes in the same statement")
+    void testUpdateCapacidad() {
+        // Given
+        Evento evento = new Evento();
+        evento.setTitulo("Taller");
+        evento.setDescripcion("Descripcion");
+        evento.setCapacidad(10);
+        evento.setOrganizador(organizador);
+        entityManager.persistAndFlush(evento);
+        eventoRepository.reservePlazas(evento.getId(), 3);
+
+        // When
+        int rechazada = eventoRepository.updateCapacidad(evento.getId(), 2);
+        int aceptada = eventoRepository.updateCapacidad(evento.getId(), 3);
+
+        // Then
+        assertThat(rechazada).isZero();
+        assertThat(aceptada).isEqualTo(1);
+        assertThat(eventoRepository.reservePlazas(evento.getId(), 1)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should repair a drifted participant counter and expose it in the projections")
+    void testRepairNumParticipantes() {
+        // Given
+        Evento evento = new Evento();
+        evento.setTitulo("Evento con desvío");
+        evento.setDescripcion("Descripcion");
+        evento.setOrganizador(organizador);
+        entityManager.persistAndFlush(evento);
+        for (int i = 0; i < 2; i++) {
+            Participante participante = new Participante();
+            participante.setNombre("Participante " + i);
+            participante.setEmail("p" + i + "@test.com");
+            participante.setEvento(evento);
+            entityManager.persistAndFlush(participante);
+        }
+
+        // When
+        int repaired = eventoRepository.repairNumParticipantes(evento.getId(), evento.getId());
+        int repairedAgain = eventoRepository.repairNumParticipantes(evento.getId(), evento.getId());
+
+        // Then
+        assertThat(repaired).isEqualTo(1);
+        assertThat(repairedAgain).isZero();
+        assertThat(eventoRepository.findResponsesByIdIn(List.of(evento.getId())))
+                .extracting(EventoResponseDTO::getNumParticipantes).containsExactly(2);
+        assertThat(eventoRepository.findSummariesByOrganizadorId(organizador.getId()))
+                .extracting(EventoSummaryDTO::getNumParticipantes).containsExactly(2);
+    }
+
+    private Evento persistEvento(String titulo, LocalDateTime fecha, String ubicacion) {
+        Evento evento = new Evento();
+        evento.setTitulo(titulo);
+        evento.setDescripcion("Descripcion");
+        evento.setFecha(fecha);
+        evento.setUbicacion(ubicacion);
+        evento.setOrganizador(organizador);
+        entityManager.persist(evento);
+        return evento;
+    }
 }
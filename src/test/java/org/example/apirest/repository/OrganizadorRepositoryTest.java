@@ -1,13 +1,21 @@
 package org.example.apirest.repository;
 
+import org.example.apirest.dto.organizador.OrganizadorResponseDTO;
+import org.example.apirest.entity.Evento;
 import org.example.apirest.entity.Organizador;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.TestPropertySource;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -129,4 +137,139 @@ class OrganizadorRepositoryTest {
         // Then
         assertThat(found).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should project organizadores into response DTOs")
+    void testFindAllResponses() {
+        // Given
+        Organizador org1 = new Organizador();
+        org1.setNombre("Ana Ruiz");
+        org1.setEmail("ana@test.com");
+        org1.setTelefono("600000001");
+
+        Organizador org2 = new Organizador();
+        org2.setNombre("Luis Gil");
+        org2.setEmail("luis@test.com");
+
+        entityManager.persist(org1);
+        entityManager.persist(org2);
+        entityManager.flush();
+
+        // When
+        Page<OrganizadorResponseDTO> page = organizadorRepository.findAllResponses(
+                PageRequest.of(0, 10, Sort.by("id")));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(OrganizadorResponseDTO::getEmail)
+                .containsExactly("ana@test.com", "luis@test.com");
+        assertThat(page.getContent().get(0).getTelefono()).isEqualTo("600000001");
+    }
+
+    @Test
+    @DisplayName("Should read the version of an organizador")
+    void testFindVersionById() {
+        // Given
+        Organizador organizador = new Organizador();
+        organizador.setNombre("Ana Ruiz");
+        organizador.setEmail("ana@test.com");
+        entityManager.persistAndFlush(organizador);
+
+        // When
+        organizador.setNombre("Ana Ruiz Gil");
+        entityManager.flush();
+
+        // Then
+        assertThat(organizadorRepository.findVersionById(organizador.getId())).contains(1L);
+        assertThat(organizadorRepository.findVersionById(999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return which emails of a set are already registered")
+    void testFindEmailsByEmailIn() {
+        // Given
+        Organizador organizador = new Organizador();
+        organizador.setNombre("Ana Ruiz");
+        organizador.setEmail("ana@test.com");
+        entityManager.persistAndFlush(organizador);
+
+        // When
+        List<String> result = organizadorRepository.findEmailsByEmailIn(List.of("ana@test.com", "luis@test.com"));
+
+        // Then
+        assertThat(result).containsExactly("ana@test.com");
+    }
+
+    @Test
+    @DisplayName("Should return the dashboard totals and the evento rows of an organizador in one query")
+    void testFindDashboardRowsById() {
+        // Given
+        Organizador organizador = new Organizador();
+        organizador.setNombre("Panel");
+        organizador.setEmail("panel@test.com");
+        entityManager.persistAndFlush(organizador);
+        LocalDateTime ahora = LocalDateTime.of(2025, 6, 1, 10, 0);
+        Evento pasado = evento(organizador, "Pasado", ahora.minusDays(3));
+        Evento proximo = evento(organizador, "Próximo", ahora.plusDays(2));
+        evento(organizador, "Lejano", ahora.plusDays(40));
+        entityManager.getEntityManager()
+                .createNativeQuery("update eventos set num_participantes = case id when :pasado then 5 " +
+                        "when :proximo then 3 else 0 end")
+                .setParameter("pasado", pasado.getId())
+                .setParameter("proximo", proximo.getId())
+                .executeUpdate();
+
+        // When
+        Slice<OrganizadorDashboardRow> todos = organizadorRepository.findDashboardRowsById(
+                organizador.getId(), ahora, 0L, Pageable.unpaged());
+        Slice<OrganizadorDashboardRow> pagina = organizadorRepository.findDashboardRowsById(
+                organizador.getId(), ahora, pasado.getId(), PageRequest.ofSize(1));
+
+        // Then
+        assertThat(todos.getContent()).extracting(OrganizadorDashboardRow::getTitulo)
+                .containsExactly("Pasado", "Próximo", "Lejano");
+        assertThat(todos.getContent()).extracting(OrganizadorDashboardRow::getNumParticipantes)
+                .containsExactly(5, 3, 0);
+        OrganizadorDashboardRow primera = todos.getContent().get(0);
+        assertThat(primera.getNombre()).isEqualTo("Panel");
+        assertThat(primera.getTotalEventos()).isEqualTo(3);
+        assertThat(primera.getTotalParticipantes()).isEqualTo(8);
+        assertThat(primera.getProximoEvento()).isEqualTo(ahora.plusDays(2));
+        assertThat(pagina.getContent()).extracting(OrganizadorDashboardRow::getEventoId).containsExactly(proximo.getId());
+        assertThat(pagina.getContent().get(0).getTotalEventos()).isEqualTo(3);
+        assertThat(pagina.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should return empty totals for an organizador without eventos and nothing for unknown ids")
+    void testFindDashboardRowsByIdWithoutEventos() {
+        // Given
+        Organizador organizador = new Organizador();
+        organizador.setNombre("Sin eventos");
+        organizador.setEmail("vacio@test.com");
+        entityManager.persistAndFlush(organizador);
+
+        // When
+        Slice<OrganizadorDashboardRow> result = organizadorRepository.findDashboardRowsById(
+                organizador.getId(), LocalDateTime.now(), 0L, PageRequest.ofSize(10));
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        OrganizadorDashboardRow row = result.getContent().get(0);
+        assertThat(row.getTotalEventos()).isZero();
+        assertThat(row.getTotalParticipantes()).isZero();
+        assertThat(row.getProximoEvento()).isNull();
+        assertThat(row.getEventoId()).isNull();
+        assertThat(organizadorRepository.findDashboardRowsById(999L, LocalDateTime.now(), 0L, PageRequest.ofSize(10)))
+                .isEmpty();
+    }
+
+    private Evento evento(Organizador organizador, String titulo, LocalDateTime fecha) {
+        Evento evento = new Evento();
+        evento.setTitulo(titulo);
+        evento.setDescripcion("Descripcion");
+        evento.setFecha(fecha);
+        evento.setOrganizador(organizador);
+        return entityManager.persistAndFlush(evento);
+    }
 }
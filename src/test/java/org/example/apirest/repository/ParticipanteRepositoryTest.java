@@ -1,22 +1,30 @@
 package org.example.apirest.repository;
 
+import org.example.apirest.dto.participante.ParticipanteDetailVersionDTO;
+import org.example.apirest.dto.participante.ParticipanteResponseDTO;
 import org.example.apirest.entity.Evento;
 import org.example.apirest.entity.Organizador;
 import org.example.apirest.entity.Participante;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.TestPropertySource;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @TestPropertySource(locations = "classpath:application-test.properties")
@@ -64,6 +72,26 @@ class ParticipanteRepositoryTest {
         assertThat(savedParticipante.getNombre()).isEqualTo("Ana García");
     }
 
+    @Test
+    @DisplayName("Should fetch the evento together with the participante")
+    void testFindWithEventoById() {
+        // Given
+        Participante participante = new Participante();
+        participante.setNombre("Ana García");
+        participante.setEmail("ana@test.com");
+        participante.setEvento(evento);
+        entityManager.persistAndFlush(participante);
+        entityManager.clear();
+
+        // When
+        Optional<Participante> found = participanteRepository.findWithEventoById(participante.getId());
+
+        // Then
+        assertThat(found).isPresent();
+        assertThat(Hibernate.isInitialized(found.get().getEvento())).isTrue();
+        assertThat(found.get().getEvento().getTitulo()).isEqualTo("Test Evento");
+    }
+
     @Test
     @DisplayName("Should find participante by email containing ignore case")
     void testFindByEmailContainingIgnoreCase() {
@@ -137,6 +165,26 @@ class ParticipanteRepositoryTest {
         assertThat(page.getTotalPages()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("Should allow the same email in different eventos but not twice in one evento")
+    void testEmailUniquePerEvento() {
+        // Given
+        Evento otroEvento = new Evento();
+        otroEvento.setTitulo("Otro Evento");
+        otroEvento.setDescripcion("Descripcion test");
+        otroEvento.setOrganizador(evento.getOrganizador());
+        entityManager.persist(otroEvento);
+        entityManager.persistAndFlush(participanteCon("repetido@test.com", evento));
+
+        // When
+        entityManager.persistAndFlush(participanteCon("repetido@test.com", otroEvento));
+
+        // Then
+        assertThatThrownBy(() -> participanteRepository.saveAndFlush(participanteCon("repetido@test.com", evento)))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .hasMessageContaining(Participante.EMAIL_EVENTO_UNIQUE.toUpperCase());
+    }
+
     @Test
     @DisplayName("Should find participante by email and evento id")
     void testFindByEmailAndEventoId() {
@@ -166,4 +214,180 @@ class ParticipanteRepositoryTest {
         // Then
         assertThat(found).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should project participantes by evento id with pagination")
+    void testFindResponsesByEventoId() {
+        // Given
+        for (int i = 1; i <= 5; i++) {
+            Participante p = new Participante();
+            p.setNombre("Part " + i);
+            p.setEmail("p" + i + "@test.com");
+            p.setEvento(evento);
+            entityManager.persist(p);
+        }
+        entityManager.flush();
+
+        // When
+        Page<ParticipanteResponseDTO> page = participanteRepository.findResponsesByEventoId(
+                evento.getId(), PageRequest.of(1, 3, Sort.by("id")));
+
+        // Then
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting(ParticipanteResponseDTO::getNombre)
+                .containsExactly("Part 4", "Part 5");
+    }
+
+    @Test
+    @DisplayName("Should seek participantes of evento after id")
+    void testFindResponsesByEventoIdAfter() {
+        // Given
+        Long[] ids = new Long[3];
+        for (int i = 0; i < 3; i++) {
+            Participante p = new Participante();
+            p.setNombre("Part " + i);
+            p.setEmail("seek" + i + "@test.com");
+            p.setEvento(evento);
+            entityManager.persist(p);
+            ids[i] = p.getId();
+        }
+        entityManager.flush();
+
+        // When
+        Slice<ParticipanteResponseDTO> slice = participanteRepository.findResponsesByEventoIdAfter(
+                evento.getId(), ids[0], PageRequest.ofSize(5));
+
+        // Then
+        assertThat(slice.getContent()).extracting(ParticipanteResponseDTO::getId).containsExactly(ids[1], ids[2]);
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should read participante emails in id batches for the search index")
+    void testFindEmailsAfter() {
+        // Given
+        Long[] ids = new Long[3];
+        for (int i = 0; i < 3; i++) {
+            Participante p = new Participante();
+            p.setNombre("Part " + i);
+            p.setEmail("index" + i + "@test.com");
+            p.setEvento(evento);
+            entityManager.persist(p);
+            ids[i] = p.getId();
+        }
+        entityManager.flush();
+
+        // When
+        List<IndexableText> batch = participanteRepository.findEmailsAfter(ids[0], PageRequest.ofSize(5));
+
+        // Then
+        assertThat(batch).extracting(IndexableText::getId).containsExactly(ids[1], ids[2]);
+        assertThat(batch).extracting(IndexableText::getText).containsExactly("index1@test.com", "index2@test.com");
+    }
+
+    @Test
+    @DisplayName("Should read the detail version of a participante")
+    void testFindDetailVersionById() {
+        // Given
+        Participante participante = new Participante();
+        participante.setNombre("Ana García");
+        participante.setEmail("ana@test.com");
+        participante.setEvento(evento);
+        entityManager.persistAndFlush(participante);
+
+        // When
+        evento.setTitulo("Titulo nuevo");
+        entityManager.flush();
+
+        // Then
+        assertThat(participanteRepository.findDetailVersionById(participante.getId()))
+                .contains(new ParticipanteDetailVersionDTO(0L, 1L));
+        assertThat(participanteRepository.findDetailVersionById(999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return the emails of a set already registered in the evento")
+    void testFindEmailsByEventoIdAndEmailIn() {
+        // Given
+        Participante participante = new Participante();
+        participante.setNombre("Ana García");
+        participante.setEmail("ana@test.com");
+        participante.setEvento(evento);
+        entityManager.persistAndFlush(participante);
+
+        // When
+        List<String> result = participanteRepository.findEmailsByEventoIdAndEmailIn(
+                evento.getId(), List.of("ana@test.com", "luis@test.com"));
+
+        // Then
+        assertThat(result).containsExactly("ana@test.com");
+        assertThat(participanteRepository.findEmailsByEventoIdAndEmailIn(999L, List.of("ana@test.com"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should stream the participantes of an evento in id order")
+    void testStreamByEventoId() {
+        // Given
+        Long[] ids = new Long[3];
+        for (int i = 0; i < 3; i++) {
+            Participante p = new Participante();
+            p.setNombre("Part " + i);
+            p.setEmail("stream" + i + "@test.com");
+            p.setEvento(evento);
+            entityManager.persist(p);
+            ids[i] = p.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<Long> result;
+        try (Stream<Participante> stream = participanteRepository.streamByEventoId(evento.getId())) {
+            result = stream.map(Participante::getId).toList();
+        }
+
+        // Then
+        assertThat(result).containsExactly(ids);
+    }
+
+    private Participante participanteCon(String email, Evento evento) {
+        Participante participante = new Participante();
+        participante.setNombre("Participante");
+        participante.setEmail(email);
+        participante.setEvento(evento);
+        return participante;
+    }
+
+    @Test
+    @DisplayName("Should delete the participantes of several eventos with one statement")
+    void testDeleteByEventoIdIn() {
+        // Given
+        Evento otro = new Evento();
+        otro.setTitulo("Otro Evento");
+        otro.setDescripcion("Descripcion");
+        otro.setOrganizador(evento.getOrganizador());
+        entityManager.persist(otro);
+        Evento conservado = new Evento();
+        conservado.setTitulo("Evento conservado");
+        conservado.setDescripcion("Descripcion");
+        conservado.setOrganizador(evento.getOrganizador());
+        entityManager.persist(conservado);
+        for (Evento destino : List.of(evento, otro, conservado)) {
+            Participante participante = new Participante();
+            participante.setNombre("Participante");
+            participante.setEmail("p@test.com");
+            participante.setEvento(destino);
+            entityManager.persist(participante);
+        }
+        entityManager.flush();
+
+        // When
+        int deleted = participanteRepository.deleteByEventoIdIn(List.of(evento.getId(), otro.getId()));
+
+        // Then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(participanteRepository.countByEventoId(evento.getId())).isZero();
+        assertThat(participanteRepository.countByEventoId(conservado.getId())).isEqualTo(1);
+    }
 }
@@ -0,0 +1,312 @@
+package org.example.apirest.repository;
+
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.example.apirest.jdbc.QueryCountingDataSourcePostProcessor;
+import org.example.apirest.jdbc.StatementRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(QueryCountingDataSourcePostProcessor.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Repository Query Plan Tests")
+class QueryPlanTest {
+
+    private static final int FULL_SCAN_THRESHOLD = 500;
+    private static final int ROWS = FULL_SCAN_THRESHOLD * 2;
+    private static final LocalDateTime BASE_FECHA = LocalDateTime.of(2030, 1, 1, 10, 0);
+    // Acceso a una tabla en el plan de H2: "PUBLIC"."EVENTOS" "E1_0" /* PUBLIC.INDICE: CONDICION */ /* WHERE ... */
+    private static final Pattern TABLE_ACCESS = Pattern.compile(
+            "\"PUBLIC\"\\.\"(\\w+)\" \"?\\w*\"? ?/\\* PUBLIC\\.([\\w.]+)(: [^/]*)? \\*/( /\\* (direct lookup|WHERE))?");
+
+    // Búsquedas por subcadena: las resuelve el índice de trigramas y solo llegan a la base de datos
+    // mientras se construye, así que recorren la tabla a propósito
+    private static final Set<String> SUBSTRING_SEARCHES = Set.of(
+            "findByTituloContainingIgnoreCase", "findResponsesByTituloContaining",
+            "findByEmailContainingIgnoreCase", "findResponsesByEmailContaining",
+            "findByNombreContainingIgnoreCase");
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private OrganizadorRepository organizadorRepository;
+
+    @Autowired
+    private ParticipanteRepository participanteRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate jdbcTemplate;
+    private Long organizadorId;
+    private Long eventoId;
+    private Long participanteId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.batchUpdate("insert into organizadores (id, nombre, email, version) values (?, ?, ?, 0)",
+                IntStream.rangeClosed(1, ROWS)
+                        .mapToObj(i -> new Object[]{i, "Organizador " + i, "org" + i + "@test.com"})
+                        .toList());
+        jdbcTemplate.batchUpdate("insert into eventos (titulo, descripcion, fecha, ubicacion, organizador_id, " +
+                        "num_participantes, version) values (?, ?, ?, ?, ?, 2, 0)",
+                IntStream.rangeClosed(1, ROWS)
+                        .mapToObj(i -> new Object[]{"Evento " + i, "Descripcion " + i,
+                                Timestamp.valueOf(BASE_FECHA.plusHours(i)), i % 2 == 0 ? "Madrid" : "Sevilla", i})
+                        .toList());
+        List<Long> eventoIds = jdbcTemplate.queryForList("select id from eventos order by id", Long.class);
+        jdbcTemplate.batchUpdate("insert into participantes (id, nombre, email, evento_id, version) " +
+                        "values (?, ?, ?, ?, 0)",
+                IntStream.range(0, ROWS * 2)
+                        .mapToObj(i -> new Object[]{i + 1, "Participante " + i, "p" + i + "@test.com",
+                                eventoIds.get(i / 2)})
+                        .toList());
+        organizadorId = 1L;
+        eventoId = eventoIds.get(0);
+        participanteId = 1L;
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from participantes");
+        jdbcTemplate.update("delete from eventos");
+        jdbcTemplate.update("delete from organizadores");
+    }
+
+    @Test
+    @DisplayName("Should cover every declared repository query")
+    void testEveryRepositoryQueryIsChecked() {
+        // Given
+        Set<String> declared = Stream.of(EventoRepository.class, OrganizadorRepository.class,
+                        ParticipanteRepository.class)
+                .flatMap(repository -> Stream.of(repository.getDeclaredMethods()))
+                .filter(method -> !method.isDefault() && !Modifier.isStatic(method.getModifiers()))
+                .map(Method::getName)
+                .collect(Collectors.toSet());
+
+        // When
+        Set<String> checked = queries().keySet().stream()
+                .map(name -> name.replaceAll("\\(.*", ""))
+                .collect(Collectors.toSet());
+
+        // Then
+        assertThat(checked).containsExactlyInAnyOrderElementsOf(declared);
+    }
+
+    @Test
+    @DisplayName("Should not scan a large table in any repository query")
+    void testRepositoryQueriesDoNotScanLargeTables() {
+        // Given
+        List<String> fullScans = new ArrayList<>();
+
+        // When
+        queries().forEach((name, query) -> {
+            if (SUBSTRING_SEARCHES.contains(name)) {
+                return;
+            }
+            List<StatementRecorder.Statement> statements = run(query);
+            assertThat(statements).as("Sentencias de %s", name).isNotEmpty();
+            for (StatementRecorder.Statement statement : statements) {
+                String plan = explain(statement);
+                for (String table : scannedTables(plan)) {
+                    if (rowCount(table) > FULL_SCAN_THRESHOLD) {
+                        fullScans.add(name + " recorre " + table + ": " + plan);
+                    }
+                }
+            }
+        });
+
+        // Then
+        assertThat(fullScans).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should detect the full scan of a substring search")
+    void testSubstringSearchScansTable() {
+        // When
+        List<StatementRecorder.Statement> statements = run(
+                () -> eventoRepository.findResponsesByTituloContaining("vento 1", PageRequest.ofSize(10)));
+
+        // Then
+        assertThat(statements).hasSize(1);
+        assertThat(scannedTables(explain(statements.get(0)))).containsExactly("EVENTOS");
+    }
+
+    @Test
+    @DisplayName("Should create the indexes declared on the entities")
+    void testDeclaredIndexesExist() {
+        // When
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select lower(index_name) from information_schema.indexes where table_schema = 'PUBLIC'", String.class);
+
+        // Then
+        assertThat(indexes).contains("idx_eventos_fecha_id", "idx_eventos_organizador_fecha",
+                "idx_participantes_evento_lista");
+    }
+
+    private Map<String, ThrowingCallable> queries() {
+        LocalDateTime now = BASE_FECHA.plusHours(ROWS / 2);
+        Pageable page = PageRequest.of(2, 10, Sort.by("id"));
+        Pageable limit = PageRequest.ofSize(10);
+        Map<String, ThrowingCallable> queries = new LinkedHashMap<>();
+
+        queries.put("findByTituloContainingIgnoreCase", () -> eventoRepository.findByTituloContainingIgnoreCase("vento"));
+        queries.put("findWithOrganizadorAndParticipantesById",
+                () -> eventoRepository.findWithOrganizadorAndParticipantesById(eventoId));
+        queries.put("findAllResponses(Evento)", () -> eventoRepository.findAllResponses(page));
+        queries.put("findSliceOfResponses(Evento)", () -> eventoRepository.findSliceOfResponses(page));
+        queries.put("findResponsesAfter(Evento)", () -> eventoRepository.findResponsesAfter(eventoId, limit));
+        queries.put("findResponsesByFechaAfter",
+                () -> eventoRepository.findResponsesByFechaAfter(now, 0L, now.plusDays(7), "Madrid", limit));
+        queries.put("findUpcomingResponses", () -> eventoRepository.findUpcomingResponses(now, limit));
+        queries.put("findDetailVersionById(Evento)", () -> eventoRepository.findDetailVersionById(eventoId));
+        queries.put("findVersionById(Evento)", () -> eventoRepository.findVersionById(eventoId));
+        queries.put("deleteByIdAndVersion(Evento)", () -> eventoRepository.deleteByIdAndVersion(-1L, 0L));
+        queries.put("findResponsesByIdIn(Evento)",
+                () -> eventoRepository.findResponsesByIdIn(List.of(eventoId, eventoId + 1)));
+        queries.put("findResponsesByTituloContaining",
+                () -> eventoRepository.findResponsesByTituloContaining("vento", limit));
+        queries.put("findTitulosAfter", () -> eventoRepository.findTitulosAfter(eventoId, limit));
+        queries.put("findSummariesByOrganizadorId", () -> eventoRepository.findSummariesByOrganizadorId(organizadorId));
+        queries.put("reservePlazas", () -> eventoRepository.reservePlazas(-1L, 1));
+        queries.put("releasePlazas", () -> eventoRepository.releasePlazas(-1L, 1));
+        queries.put("incrementRosterVersion", () -> eventoRepository.incrementRosterVersion(-1L));
+        queries.put("updateCapacidad", () -> eventoRepository.updateCapacidad(-1L, 1));
+        queries.put("findNumParticipantesById", () -> eventoRepository.findNumParticipantesById(eventoId));
+        queries.put("findIdsByOrganizadorId", () -> eventoRepository.findIdsByOrganizadorId(organizadorId));
+        queries.put("findIdsAfter", () -> eventoRepository.findIdsAfter(eventoId, limit));
+        queries.put("repairNumParticipantes", () -> eventoRepository.repairNumParticipantes(eventoId, eventoId + 10));
+
+        queries.put("findByNombreContainingIgnoreCase",
+                () -> organizadorRepository.findByNombreContainingIgnoreCase("ganizador"));
+        queries.put("findByEmail", () -> organizadorRepository.findByEmail("org1@test.com"));
+        queries.put("existsByEmail", () -> organizadorRepository.existsByEmail("org1@test.com"));
+        queries.put("findAllResponses(Organizador)", () -> organizadorRepository.findAllResponses(page));
+        queries.put("findSliceOfResponses(Organizador)", () -> organizadorRepository.findSliceOfResponses(page));
+        queries.put("findEmailsByEmailIn",
+                () -> organizadorRepository.findEmailsByEmailIn(List.of("org1@test.com", "org2@test.com")));
+        queries.put("findVersionById(Organizador)", () -> organizadorRepository.findVersionById(organizadorId));
+        queries.put("deleteByIdAndVersion(Organizador)", () -> organizadorRepository.deleteByIdAndVersion(-1L, 0L));
+        queries.put("findResponsesAfter(Organizador)", () -> organizadorRepository.findResponsesAfter(organizadorId, limit));
+        queries.put("findDashboardRowsById",
+                () -> organizadorRepository.findDashboardRowsById(organizadorId, now, 0L, limit));
+
+        queries.put("findByEmailContainingIgnoreCase",
+                () -> participanteRepository.findByEmailContainingIgnoreCase("test"));
+        queries.put("findByEventoId", () -> participanteRepository.findByEventoId(eventoId));
+        queries.put("findByEventoId(Pageable)", () -> participanteRepository.findByEventoId(eventoId, page));
+        queries.put("findByEmailAndEventoId", () -> participanteRepository.findByEmailAndEventoId("p0@test.com", eventoId));
+        queries.put("countByEventoId", () -> participanteRepository.countByEventoId(eventoId));
+        queries.put("findWithEventoById", () -> participanteRepository.findWithEventoById(participanteId));
+        queries.put("findAllResponses(Participante)", () -> participanteRepository.findAllResponses(page));
+        queries.put("findSliceOfResponses(Participante)", () -> participanteRepository.findSliceOfResponses(page));
+        queries.put("findResponsesByEventoId", () -> participanteRepository.findResponsesByEventoId(eventoId, page));
+        queries.put("findSliceOfResponsesByEventoId",
+                () -> participanteRepository.findSliceOfResponsesByEventoId(eventoId, page));
+        queries.put("findResponsesAfter(Participante)",
+                () -> participanteRepository.findResponsesAfter(participanteId, limit));
+        queries.put("findDetailVersionById(Participante)",
+                () -> participanteRepository.findDetailVersionById(participanteId));
+        queries.put("findEmailsByEventoIdAndEmailIn", () -> participanteRepository.findEmailsByEventoIdAndEmailIn(
+                eventoId, List.of("p0@test.com", "p1@test.com")));
+        queries.put("findResponsesByIdIn(Participante)",
+                () -> participanteRepository.findResponsesByIdIn(List.of(participanteId, participanteId + 1)));
+        queries.put("findResponsesByEmailContaining",
+                () -> participanteRepository.findResponsesByEmailContaining("test", limit));
+        queries.put("findEmailsAfter", () -> participanteRepository.findEmailsAfter(participanteId, limit));
+        queries.put("streamByEventoId", () -> {
+            try (Stream<?> participantes = participanteRepository.streamByEventoId(eventoId)) {
+                participantes.count();
+            }
+        });
+        queries.put("findResponsesByEventoIdAfter",
+                () -> participanteRepository.findResponsesByEventoIdAfter(eventoId, 0L, limit));
+        queries.put("deleteByEventoIdIn", () -> participanteRepository.deleteByEventoIdIn(List.of(-1L)));
+        return queries;
+    }
+
+    private List<StatementRecorder.Statement> run(ThrowingCallable query) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        return transaction.execute(status -> {
+            status.setRollbackOnly();
+            return StatementRecorder.recordStatements(dataSource, query);
+        });
+    }
+
+    private String explain(StatementRecorder.Statement statement) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("explain " + statement.sql())) {
+            for (ParameterSetOperation parameter : statement.parameters()) {
+                parameter.getMethod().invoke(explain, parameter.getArgs());
+            }
+            try (ResultSet plan = explain.executeQuery()) {
+                plan.next();
+                return plan.getString(1).replaceAll("\\s+", " ");
+            }
+        } catch (SQLException | ReflectiveOperationException e) {
+            throw new AssertionError("No se pudo obtener el plan de: " + statement.sql(), e);
+        }
+    }
+
+    private static List<String> scannedTables(String plan) {
+        boolean boundedPage = plan.contains("/* index sorted */") && plan.contains(" ROWS ONLY");
+        List<String> tables = new ArrayList<>();
+        Matcher matcher = TABLE_ACCESS.matcher(plan);
+        while (matcher.find()) {
+            boolean seek = matcher.group(3) != null;
+            boolean directLookup = "direct lookup".equals(matcher.group(5));
+            boolean filtered = "WHERE".equals(matcher.group(5));
+            if (!seek && !directLookup && (filtered || !boundedPage)) {
+                tables.add(matcher.group(1));
+            }
+        }
+        return tables;
+    }
+
+    private long rowCount(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.apirest.search;
+
+import org.example.apirest.event.ChangeType;
+import org.example.apirest.event.EventoChangedEvent;
+import org.example.apirest.repository.EventoRepository;
+import org.example.apirest.repository.IndexableText;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventoSearchIndex Tests")
+class EventoSearchIndexTest {
+
+    @Mock
+    private EventoRepository eventoRepository;
+
+    @InjectMocks
+    private EventoSearchIndex eventoSearchIndex;
+
+    @Test
+    @DisplayName("Should load every evento title in batches on rebuild")
+    void testRebuild() {
+        // Given
+        List<IndexableText> firstBatch = new ArrayList<>();
+        for (long id = 1; id <= EventoSearchIndex.REBUILD_BATCH_SIZE; id++) {
+            firstBatch.add(titulo(id, "Evento " + id));
+        }
+        PageRequest batch = PageRequest.ofSize(EventoSearchIndex.REBUILD_BATCH_SIZE);
+        long lastId = EventoSearchIndex.REBUILD_BATCH_SIZE;
+        when(eventoRepository.findTitulosAfter(0L, batch)).thenReturn(firstBatch);
+        when(eventoRepository.findTitulosAfter(lastId, batch))
+                .thenReturn(List.of(titulo(lastId + 1, "Conferencia de Java")));
+
+        // When
+        eventoSearchIndex.rebuild();
+
+        // Then
+        assertThat(eventoSearchIndex.isReady()).isTrue();
+        assertThat(eventoSearchIndex.search("java", 10)).containsExactly(lastId + 1);
+        verify(eventoRepository, times(2)).findTitulosAfter(anyLong(), eq(batch));
+    }
+
+    @Test
+    @DisplayName("Should apply evento changes published after commit")
+    void testOnEventoChanged() {
+        // Given
+        when(eventoRepository.findTitulosAfter(anyLong(), any())).thenReturn(List.of(titulo(1L, "Java Conference")));
+        eventoSearchIndex.rebuild();
+
+        // When
+        eventoSearchIndex.onEventoChanged(new EventoChangedEvent(2L, "Java Meetup", ChangeType.CREATED));
+        eventoSearchIndex.onEventoChanged(new EventoChangedEvent(1L, "Kotlin Conference", ChangeType.UPDATED));
+
+        // Then
+        assertThat(eventoSearchIndex.search("java", 10)).containsExactly(2L);
+        assertThat(eventoSearchIndex.search("conference", 10)).containsExactly(1L);
+
+        // When
+        eventoSearchIndex.onEventoChanged(new EventoChangedEvent(2L, ChangeType.DELETED));
+
+        // Then
+        assertThat(eventoSearchIndex.search("java", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not overwrite changes received while rebuilding")
+    void testChangesDuringRebuildWin() {
+        // Given
+        when(eventoRepository.findTitulosAfter(anyLong(), any())).thenAnswer(invocation -> {
+            eventoSearchIndex.onEventoChanged(new EventoChangedEvent(1L, "Titulo nuevo", ChangeType.UPDATED));
+            return List.of(titulo(1L, "Titulo viejo"));
+        });
+
+        // When
+        eventoSearchIndex.rebuild();
+
+        // Then
+        assertThat(eventoSearchIndex.search("nuevo", 10)).containsExactly(1L);
+        assertThat(eventoSearchIndex.search("viejo", 10)).isEmpty();
+    }
+
+    private static IndexableText titulo(Long id, String text) {
+        return new IndexableText() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getText() {
+                return text;
+            }
+        };
+    }
+}
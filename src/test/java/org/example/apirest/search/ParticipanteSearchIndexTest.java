@@ -0,0 +1,75 @@
+package org.example.apirest.search;
+
+import org.example.apirest.event.ChangeType;
+import org.example.apirest.event.ParticipanteChangedEvent;
+import org.example.apirest.repository.IndexableText;
+import org.example.apirest.repository.ParticipanteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ParticipanteSearchIndex Tests")
+class ParticipanteSearchIndexTest {
+
+    @Mock
+    private ParticipanteRepository participanteRepository;
+
+    @InjectMocks
+    private ParticipanteSearchIndex participanteSearchIndex;
+
+    @Test
+    @DisplayName("Should drop participantes pruned after a bulk delete")
+    void testRemove() {
+        // Given
+        when(participanteRepository.findEmailsAfter(anyLong(), any()))
+                .thenReturn(List.of(email(1L, "ana@test.com"), email(2L, "luis@test.com")));
+        participanteSearchIndex.rebuild();
+        participanteSearchIndex.onParticipanteChanged(
+                new ParticipanteChangedEvent(3L, 9L, null, "eva@test.com", ChangeType.CREATED));
+
+        // When
+        participanteSearchIndex.remove(List.of(1L, 3L));
+
+        // Then
+        assertThat(participanteSearchIndex.search("test.com", 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should not restore participantes pruned while rebuilding")
+    void testDeletesDuringRebuildWin() {
+        // Given
+        when(participanteRepository.findEmailsAfter(anyLong(), any())).thenAnswer(invocation -> {
+            participanteSearchIndex.remove(List.of(1L));
+            return List.of(email(1L, "ana@test.com"));
+        });
+
+        // When
+        participanteSearchIndex.rebuild();
+
+        // Then
+        assertThat(participanteSearchIndex.search("ana", 10)).isEmpty();
+    }
+
+    private static IndexableText email(Long id, String text) {
+        return new IndexableText() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getText() {
+                return text;
+            }
+        };
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.apirest.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TrigramIndex Tests")
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put(1L, "Conferencia de Java");
+        index.put(2L, "Java");
+        index.put(3L, "Javascript avanzado");
+        index.put(4L, "Taller de programación Java");
+        index.put(5L, "Meetup de Spring Boot");
+    }
+
+    @Test
+    @DisplayName("Should rank exact, prefix, word prefix and substring matches in that order")
+    void testSearchRanksMatches() {
+        // Given
+        index.put(6L, "Ajava");
+
+        // When
+        List<Long> result = index.search("java", 10);
+
+        // Then
+        assertThat(result).containsExactly(2L, 3L, 1L, 4L, 6L);
+    }
+
+    @Test
+    @DisplayName("Should ignore case and accents")
+    void testSearchIgnoresCaseAndAccents() {
+        // When
+        List<Long> result = index.search("PROGRAMACION", 10);
+
+        // Then
+        assertThat(result).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Should only return documents containing the whole query")
+    void testSearchVerifiesCandidates() {
+        // Given
+        index.put(7L, "Spring sin boot");
+
+        // When
+        List<Long> result = index.search("spring boot", 10);
+
+        // Then
+        assertThat(result).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("Should answer queries shorter than a trigram")
+    void testSearchWithShortQuery() {
+        // When
+        List<Long> result = index.search("ja", 10);
+
+        // Then
+        assertThat(result).containsExactly(2L, 3L, 1L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should keep only the best ranked results up to the limit")
+    void testSearchAppliesLimit() {
+        // When
+        List<Long> result = index.search("java", 2);
+
+        // Then
+        assertThat(result).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should reindex a document when its text changes")
+    void testPutReplacesPreviousText() {
+        // When
+        index.put(2L, "Kotlin");
+
+        // Then
+        assertThat(index.search("java", 10)).doesNotContain(2L);
+        assertThat(index.search("kotlin", 10)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should stop returning removed documents")
+    void testRemove() {
+        // When
+        index.remove(1L);
+        index.remove(99L);
+
+        // Then
+        assertThat(index.search("conferencia", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should return nothing for blank queries")
+    void testSearchWithBlankQuery() {
+        // When & Then
+        assertThat(index.search("  ", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should estimate memory used by the indexed documents")
+    void testStats() {
+        // When
+        TrigramIndex.Stats stats = index.stats();
+
+        // Then
+        assertThat(stats.documents()).isEqualTo(5);
+        assertThat(stats.trigrams()).isPositive();
+        assertThat(stats.postings()).isGreaterThanOrEqualTo(stats.trigrams());
+        assertThat(stats.bytesPerDocument()).isEqualTo(stats.estimatedBytes() / 5);
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.apirest.service;
+
+import org.example.apirest.entity.Evento;
+import org.example.apirest.entity.Organizador;
+import org.example.apirest.entity.Participante;
+import org.example.apirest.exception.CapacityExceededException;
+import org.example.apirest.exception.DuplicateResourceException;
+import org.example.apirest.repository.EventoRepository;
+import org.example.apirest.repository.OrganizadorRepository;
+import org.example.apirest.repository.ParticipanteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Duplicate Registration Concurrency Tests")
+class DuplicateRegistrationConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int CAPACIDAD = 10;
+
+    @Autowired
+    private ParticipanteService participanteService;
+
+    @Autowired
+    private OrganizadorService organizadorService;
+
+    @Autowired
+    private ParticipanteRepository participanteRepository;
+
+    @Autowired
+    private OrganizadorRepository organizadorRepository;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    private Evento evento;
+
+    @BeforeEach
+    void setUp() {
+        Organizador organizador = new Organizador();
+        organizador.setNombre("Test Organizador");
+        organizador.setEmail("org@test.com");
+        organizadorRepository.save(organizador);
+
+        evento = new Evento();
+        evento.setTitulo("Evento concurrido");
+        evento.setDescripcion("Descripcion");
+        evento.setOrganizador(organizador);
+        eventoRepository.save(evento);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventoRepository.deleteAll();
+        organizadorRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of N parallel registrations with the same email win")
+    void testParallelParticipanteRegistrations() throws Exception {
+        // When
+        List<Future<Participante>> results = runInParallel(() -> {
+            Participante participante = new Participante();
+            participante.setNombre("Participante");
+            participante.setEmail("carrera@test.com");
+            participante.setEvento(evento);
+            return participanteService.save(participante);
+        });
+
+        // Then
+        assertExactlyOneWinner(results);
+        assertThat(participanteRepository.countByEventoId(evento.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should admit exactly capacidad of N parallel registrations with distinct emails")
+    void testParallelRegistrationsRespectCapacidad() throws Exception {
+        // Given
+        evento.setCapacidad(CAPACIDAD);
+        eventoRepository.save(evento);
+        AtomicInteger sequence = new AtomicInteger();
+
+        // When
+        List<Future<Participante>> results = runInParallel(() -> {
+            Participante participante = new Participante();
+            participante.setNombre("Participante");
+            participante.setEmail("plaza" + sequence.incrementAndGet() + "@test.com");
+            participante.setEvento(evento);
+            return participanteService.save(participante);
+        });
+
+        // Then
+        int admitted = 0;
+        for (Future<Participante> result : results) {
+            try {
+                result.get();
+                admitted++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(CapacityExceededException.class);
+            }
+        }
+        assertThat(admitted).isEqualTo(CAPACIDAD);
+        assertThat(participanteRepository.countByEventoId(evento.getId())).isEqualTo(CAPACIDAD);
+        assertThat(eventoRepository.findNumParticipantesById(evento.getId())).contains(CAPACIDAD);
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of N parallel organizadores with the same email win")
+    void testParallelOrganizadorRegistrations() throws Exception {
+        // When
+        List<Future<Organizador>> results = runInParallel(() -> {
+            Organizador organizador = new Organizador();
+            organizador.setNombre("Organizador");
+            organizador.setEmail("carrera@test.com");
+            return organizadorService.save(organizador);
+        });
+
+        // Then
+        assertExactlyOneWinner(results);
+        assertThat(organizadorRepository.findByEmail("carrera@test.com")).isPresent();
+    }
+
+    private <T> List<Future<T>> runInParallel(Callable<T> task) throws InterruptedException {
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<T>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    barrier.await();
+                    return task.call();
+                }));
+            }
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+        return results;
+    }
+
+    private <T> void assertExactlyOneWinner(List<Future<T>> results) throws InterruptedException {
+        int winners = 0;
+        for (Future<T> result : results) {
+            try {
+                result.get();
+                winners++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(DuplicateResourceException.class);
+            }
+        }
+        assertThat(winners).isEqualTo(1);
+    }
+}
@@ -1,19 +1,40 @@
 package org.example.apirest.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.validation.Validation;
+import org.example.apirest.cache.TotalCountCache;
+import org.example.apirest.cache.UpcomingEventosCache;
+import org.example.apirest.dto.evento.EventoResponseDTO;
+import org.example.apirest.dto.pagination.CountMode;
 import org.example.apirest.entity.Evento;
 import org.example.apirest.entity.Organizador;
+import org.example.apirest.event.ChangeType;
+import org.example.apirest.event.EventoChangedEvent;
+import org.example.apirest.exception.BusinessRuleException;
+import org.example.apirest.exception.PreconditionFailedException;
 import org.example.apirest.exception.ResourceNotFoundException;
+import org.example.apirest.mapper.EventoMapper;
 import org.example.apirest.repository.EventoRepository;
+import org.example.apirest.repository.OrganizadorRepository;
+import org.example.apirest.repository.ParticipanteRepository;
+import org.example.apirest.search.EventoSearchIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.validation.BindException;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -23,15 +44,43 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("EventoService Tests")
 class EventoServiceTest {
 
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
     @Mock
     private EventoRepository eventoRepository;
 
+    @Mock
+    private ParticipanteRepository participanteRepository;
+
+    @Mock
+    private EventoSearchIndex eventoSearchIndex;
+
+    @Mock
+    private TotalCountCache totalCountCache;
+
+    @Mock
+    private UpcomingEventosCache upcomingEventosCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OrganizadorRepository organizadorRepository;
+
+    @Spy
+    private EventoMapper eventoMapper = new EventoMapper(null, null);
+
+    @Spy
+    private MergePatcher mergePatcher = new MergePatcher(OBJECT_MAPPER,
+            Validation.buildDefaultValidatorFactory().getValidator());
+
     @InjectMocks
     private EventoService eventoService;
 
@@ -79,6 +128,132 @@ class EventoServiceTest {
         verify(eventoRepository, times(1)).findAll(pageable);
     }
 
+    @Test
+    @DisplayName("Should find projected eventos with pagination")
+    void testFindAllResponses() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        EventoResponseDTO dto = EventoResponseDTO.builder().id(1L).titulo("Evento 1").build();
+        Page<EventoResponseDTO> page = new PageImpl<>(List.of(dto), pageable, 1);
+        when(eventoRepository.findAllResponses(pageable)).thenReturn(page);
+
+        // When
+        Slice<EventoResponseDTO> result = eventoService.findAllResponses(pageable, CountMode.EXACT);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(dto);
+        verify(eventoRepository, never()).findAll(pageable);
+    }
+
+    @Test
+    @DisplayName("Should return slice without counting when count mode is none")
+    void testFindAllResponsesWithoutCount() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        EventoResponseDTO dto = EventoResponseDTO.builder().id(1L).titulo("Evento 1").build();
+        when(eventoRepository.findSliceOfResponses(pageable)).thenReturn(new SliceImpl<>(List.of(dto), pageable, false));
+
+        // When
+        Slice<EventoResponseDTO> result = eventoService.findAllResponses(pageable, CountMode.NONE);
+
+        // Then
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.getContent()).containsExactly(dto);
+        verify(eventoRepository, never()).findAllResponses(pageable);
+        verify(eventoRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Should take total from count cache when count mode is cached")
+    void testFindAllResponsesWithCachedCount() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        EventoResponseDTO dto = EventoResponseDTO.builder().id(1L).titulo("Evento 1").build();
+        when(eventoRepository.findSliceOfResponses(pageable)).thenReturn(new SliceImpl<>(List.of(dto), pageable, true));
+        when(totalCountCache.get(eq(TotalCountCache.EVENTOS), any())).thenReturn(250L);
+
+        // When
+        Slice<EventoResponseDTO> result = eventoService.findAllResponses(pageable, CountMode.CACHED);
+
+        // Then
+        assertThat(result).isInstanceOf(Page.class);
+        assertThat(((Page<EventoResponseDTO>) result).getTotalElements()).isEqualTo(250L);
+        verify(eventoRepository, never()).findAllResponses(pageable);
+    }
+
+    @Test
+    @DisplayName("Should seek projected eventos after id")
+    void testFindResponsesAfter() {
+        // Given
+        EventoResponseDTO dto = EventoResponseDTO.builder().id(6L).titulo("Evento 6").build();
+        when(eventoRepository.findResponsesAfter(5L, PageRequest.ofSize(1)))
+                .thenReturn(new SliceImpl<>(List.of(dto), PageRequest.ofSize(1), true));
+
+        // When
+        Slice<EventoResponseDTO> result = eventoService.findResponsesAfter(5L, 1);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(dto);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should start the fecha seek at 'from' and default the open bounds")
+    void testFindResponsesByFechaFirstPage() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2030, 3, 4, 0, 0);
+
+        // When
+        eventoService.findResponsesByFecha(from, null, " Madrid ", null, null, 10);
+
+        // Then
+        verify(eventoRepository).findResponsesByFechaAfter(from, 0L, EventoService.MAX_FECHA, "Madrid",
+                PageRequest.ofSize(10));
+    }
+
+    @Test
+    @DisplayName("Should continue from the cursor and ignore one that lies before 'from'")
+    void testFindResponsesByFechaWithCursor() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2030, 3, 4, 0, 0);
+        LocalDateTime to = from.plusDays(7);
+
+        // When
+        eventoService.findResponsesByFecha(from, to, "", from.plusDays(1), 8L, 5);
+        eventoService.findResponsesByFecha(from, to, null, from.minusDays(1), 3L, 5);
+
+        // Then
+        verify(eventoRepository).findResponsesByFechaAfter(from.plusDays(1), 8L, to, null, PageRequest.ofSize(5));
+        verify(eventoRepository).findResponsesByFechaAfter(from, 0L, to, null, PageRequest.ofSize(5));
+    }
+
+    @Test
+    @DisplayName("Should reject a date range whose 'from' is not before 'to'")
+    void testFindResponsesByFechaInvalidRange() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2030, 3, 4, 0, 0);
+
+        // When & Then
+        assertThatThrownBy(() -> eventoService.findResponsesByFecha(from, from, null, null, null, 10))
+                .isInstanceOf(BusinessRuleException.class);
+        verifyNoInteractions(eventoRepository);
+    }
+
+    @Test
+    @DisplayName("Should serve upcoming eventos from the in-memory cache")
+    void testFindUpcoming() {
+        // Given
+        EventoResponseDTO dto = EventoResponseDTO.builder().id(1L).titulo("Próximo").build();
+        when(upcomingEventosCache.get(any(LocalDateTime.class), eq(5))).thenReturn(List.of(dto));
+
+        // When
+        List<EventoResponseDTO> result = eventoService.findUpcoming(5);
+
+        // Then
+        assertThat(result).containsExactly(dto);
+        verifyNoInteractions(eventoRepository);
+    }
+
     @Test
     @DisplayName("Should find evento by id successfully")
     void testFindById() {
@@ -113,6 +288,38 @@ class EventoServiceTest {
         verify(eventoRepository, times(1)).findById(id);
     }
 
+    @Test
+    @DisplayName("Should find evento detail with organizador and participantes")
+    void testFindDetailById() {
+        // Given
+        Long id = 1L;
+        Evento evento = new Evento();
+        evento.setId(id);
+        evento.setTitulo("Test Evento");
+        when(eventoRepository.findWithOrganizadorAndParticipantesById(id)).thenReturn(Optional.of(evento));
+
+        // When
+        Evento result = eventoService.findDetailById(id);
+
+        // Then
+        assertThat(result.getId()).isEqualTo(id);
+        verify(eventoRepository, times(1)).findWithOrganizadorAndParticipantesById(id);
+        verify(eventoRepository, never()).findById(id);
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when evento detail not found")
+    void testFindDetailByIdNotFound() {
+        // Given
+        Long id = 999L;
+        when(eventoRepository.findWithOrganizadorAndParticipantesById(id)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> eventoService.findDetailById(id))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Evento");
+    }
+
     @Test
     @DisplayName("Should save evento successfully")
     void testSave() {
@@ -140,6 +347,7 @@ class EventoServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
         verify(eventoRepository, times(1)).save(evento);
+        verify(eventPublisher).publishEvent(new EventoChangedEvent(1L, "New Evento", ChangeType.CREATED));
     }
 
     @Test
@@ -154,12 +362,14 @@ class EventoServiceTest {
         existing.setId(id);
         existing.setTitulo("Old Title");
         existing.setDescripcion("Old Desc");
+        existing.setCapacidad(50);
 
         Evento updated = new Evento();
         updated.setTitulo("New Title");
         updated.setDescripcion("New Desc");
         updated.setFecha(LocalDateTime.now().plusDays(10));
         updated.setUbicacion("Madrid");
+        updated.setCapacidad(50);
         updated.setOrganizador(organizador);
 
         when(eventoRepository.findById(id)).thenReturn(Optional.of(existing));
@@ -170,47 +380,249 @@ class EventoServiceTest {
 
         // Then
         assertThat(result.getTitulo()).isEqualTo("New Title");
+        verify(eventoRepository, never()).updateCapacidad(any(), anyInt());
         verify(eventoRepository, times(1)).save(existing);
     }
 
+    @Test
+    @DisplayName("Should reject a capacidad below the registered participantes")
+    void testUpdateCapacidadBelowParticipantes() {
+        // Given
+        Long id = 1L;
+        Evento existing = new Evento();
+        existing.setId(id);
+        Evento updated = new Evento();
+        updated.setTitulo("Title");
+        updated.setCapacidad(5);
+
+        when(eventoRepository.findById(id)).thenReturn(Optional.of(existing));
+        when(eventoRepository.updateCapacidad(id, 5)).thenReturn(0);
+        when(eventoRepository.findNumParticipantesById(id)).thenReturn(Optional.of(8));
+
+        // When & Then
+        assertThatThrownBy(() -> eventoService.update(id, updated))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("8");
+        verify(eventoRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("Should delete evento by id successfully")
     void testDeleteById() {
         // Given
         Long id = 1L;
-        when(eventoRepository.existsById(id)).thenReturn(true);
-        doNothing().when(eventoRepository).deleteById(id);
+        when(eventoRepository.findVersionById(id)).thenReturn(Optional.of(2L));
+        when(participanteRepository.deleteByEventoIdIn(List.of(id))).thenReturn(3);
+        when(eventoRepository.deleteByIdAndVersion(id, 2L)).thenReturn(1);
 
         // When
         eventoService.deleteById(id);
 
         // Then
-        verify(eventoRepository, times(1)).existsById(id);
-        verify(eventoRepository, times(1)).deleteById(id);
+        verify(participanteRepository, times(1)).deleteByEventoIdIn(List.of(id));
+        verify(eventoRepository, times(1)).deleteByIdAndVersion(id, 2L);
+        verify(eventoRepository, never()).deleteById(id);
+        verify(eventPublisher).publishEvent(new EventoChangedEvent(id, ChangeType.DELETED));
+    }
+
+    @Test
+    @DisplayName("Should reject a delete whose If-Match version is stale")
+    void testDeleteByIdStaleVersion() {
+        // Given
+        Long id = 1L;
+        when(eventoRepository.findVersionById(id)).thenReturn(Optional.of(3L));
+
+        // When & Then
+        assertThatThrownBy(() -> eventoService.deleteById(id, 2L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(participanteRepository, never()).deleteByEventoIdIn(any());
+        verify(eventoRepository, never()).deleteByIdAndVersion(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fail the delete when the evento changes after its version was read")
+    void testDeleteByIdConcurrentUpdate() {
+        // Given
+        Long id = 1L;
+        when(eventoRepository.findVersionById(id)).thenReturn(Optional.of(2L));
+        when(eventoRepository.deleteByIdAndVersion(id, 2L)).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> eventoService.deleteById(id, 2L))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
-    @DisplayName("Should search eventos by titulo")
+    @DisplayName("Should reject an update whose If-Match version is stale")
+    void testUpdateStaleVersion() {
+        // Given
+        Evento existing = new Evento();
+        existing.setId(1L);
+        existing.setVersion(5L);
+        when(eventoRepository.findById(1L)).thenReturn(Optional.of(existing));
+
+        // When & Then
+        assertThatThrownBy(() -> eventoService.update(1L, new Evento(), 4L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(eventoRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should search eventos by titulo through the index keeping its ranking")
     void testSearchByTitulo() {
         // Given
         String titulo = "Java";
-        Evento evento1 = new Evento();
-        evento1.setId(1L);
-        evento1.setTitulo("Java Conference");
+        EventoResponseDTO dto1 = EventoResponseDTO.builder().id(1L).titulo("Spring Boot Java").build();
+        EventoResponseDTO dto2 = EventoResponseDTO.builder().id(2L).titulo("Java Conference").build();
 
-        Evento evento2 = new Evento();
-        evento2.setId(2L);
-        evento2.setTitulo("Spring Boot Java");
+        when(eventoSearchIndex.isReady()).thenReturn(true);
+        when(eventoSearchIndex.search(titulo, 10)).thenReturn(List.of(2L, 1L));
+        when(eventoRepository.findResponsesByIdIn(List.of(2L, 1L))).thenReturn(List.of(dto1, dto2));
 
-        List<Evento> eventos = Arrays.asList(evento1, evento2);
-        when(eventoRepository.findByTituloContainingIgnoreCase(titulo))
-                .thenReturn(eventos);
+        // When
+        List<EventoResponseDTO> result = eventoService.searchByTitulo(titulo, 10);
+
+        // Then
+        assertThat(result).extracting(EventoResponseDTO::getId).containsExactly(2L, 1L);
+        verify(eventoRepository, never()).findResponsesByTituloContaining(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should prune stale ids from the index and top the result up to the limit")
+    void testSearchByTituloTopsUpAfterStaleIds() {
+        // Given
+        EventoResponseDTO dto1 = EventoResponseDTO.builder().id(1L).titulo("Java Conference").build();
+        EventoResponseDTO dto3 = EventoResponseDTO.builder().id(3L).titulo("Java Meetup").build();
+
+        when(eventoSearchIndex.isReady()).thenReturn(true);
+        when(eventoSearchIndex.search("Java", 2)).thenReturn(List.of(1L, 2L), List.of(1L, 3L));
+        when(eventoRepository.findResponsesByIdIn(List.of(1L, 2L))).thenReturn(List.of(dto1));
+        when(eventoRepository.findResponsesByIdIn(List.of(3L))).thenReturn(List.of(dto3));
 
         // When
-        List<Evento> result = eventoService.searchByTitulo(titulo);
+        List<EventoResponseDTO> result = eventoService.searchByTitulo("Java", 2);
 
         // Then
-        assertThat(result).hasSize(2);
-        verify(eventoRepository, times(1)).findByTituloContainingIgnoreCase(titulo);
+        assertThat(result).extracting(EventoResponseDTO::getId).containsExactly(1L, 3L);
+        verify(eventoSearchIndex).remove(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("Should skip the database when the index finds nothing")
+    void testSearchByTituloWithoutMatches() {
+        // Given
+        when(eventoSearchIndex.isReady()).thenReturn(true);
+        when(eventoSearchIndex.search("xyz", 10)).thenReturn(List.of());
+
+        // When
+        List<EventoResponseDTO> result = eventoService.searchByTitulo("xyz", 10);
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(eventoRepository);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database while the index is being built")
+    void testSearchByTituloBeforeIndexIsReady() {
+        // Given
+        EventoResponseDTO dto = EventoResponseDTO.builder().id(1L).titulo("Java Conference").build();
+        when(eventoSearchIndex.isReady()).thenReturn(false);
+        when(eventoRepository.findResponsesByTituloContaining("Java", PageRequest.ofSize(10)))
+                .thenReturn(List.of(dto));
+
+        // When
+        List<EventoResponseDTO> result = eventoService.searchByTitulo("Java", 10);
+
+        // Then
+        assertThat(result).containsExactly(dto);
+        verify(eventoSearchIndex, never()).search(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when reading the version of a missing evento")
+    void testFindDetailVersionNotFound() {
+        // Given
+        Long id = 999L;
+        when(eventoRepository.findDetailVersionById(id)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> eventoService.findDetailVersion(id))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("999");
+    }
+
+    @Test
+    @DisplayName("Should patch only the supplied fields without looking up the organizador")
+    void testPatchTituloOnly() throws Exception {
+        // Given
+        Organizador organizador = new Organizador();
+        organizador.setId(1L);
+        Evento evento = new Evento();
+        evento.setId(1L);
+        evento.setTitulo("Titulo original");
+        evento.setDescripcion("Descripcion original");
+        evento.setUbicacion("Madrid");
+        evento.setCapacidad(50);
+        evento.setOrganizador(organizador);
+        when(eventoRepository.findById(1L)).thenReturn(Optional.of(evento));
+
+        // When
+        Evento result = eventoService.patch(1L, OBJECT_MAPPER.readTree("{\"titulo\":\"Titulo nuevo\"}"), null);
+
+        // Then
+        assertThat(result.getTitulo()).isEqualTo("Titulo nuevo");
+        assertThat(result.getUbicacion()).isEqualTo("Madrid");
+        assertThat(result.getCapacidad()).isEqualTo(50);
+        verify(organizadorRepository, never()).findById(any());
+        verify(eventoRepository, never()).updateCapacidad(any(), anyInt());
+        verify(eventoRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(new EventoChangedEvent(1L, "Titulo nuevo", ChangeType.UPDATED));
+    }
+
+    @Test
+    @DisplayName("Should look up the new organizador only when the patch changes it")
+    void testPatchOrganizador() throws Exception {
+        // Given
+        Organizador actual = new Organizador();
+        actual.setId(1L);
+        Organizador nuevo = new Organizador();
+        nuevo.setId(2L);
+        Evento evento = new Evento();
+        evento.setId(1L);
+        evento.setTitulo("Titulo original");
+        evento.setDescripcion("Descripcion original");
+        evento.setOrganizador(actual);
+        when(eventoRepository.findById(1L)).thenReturn(Optional.of(evento));
+        when(organizadorRepository.findById(2L)).thenReturn(Optional.of(nuevo));
+
+        // When
+        Evento result = eventoService.patch(1L, OBJECT_MAPPER.readTree("{\"organizadorId\":2}"), null);
+
+        // Then
+        assertThat(result.getOrganizador()).isSameAs(nuevo);
+        verify(organizadorRepository, times(1)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("Should reject a patch that breaks validation")
+    void testPatchInvalid() throws Exception {
+        // Given
+        Organizador organizador = new Organizador();
+        organizador.setId(1L);
+        Evento evento = new Evento();
+        evento.setId(1L);
+        evento.setTitulo("Titulo original");
+        evento.setDescripcion("Descripcion original");
+        evento.setOrganizador(organizador);
+        when(eventoRepository.findById(1L)).thenReturn(Optional.of(evento));
+
+        // When & Then
+        assertThatThrownBy(() -> eventoService.patch(1L, OBJECT_MAPPER.readTree("{\"titulo\":null}"), null))
+                .isInstanceOf(BindException.class);
+        assertThat(evento.getTitulo()).isEqualTo("Titulo original");
+        verify(eventPublisher, never()).publishEvent(any());
     }
 }
@@ -0,0 +1,154 @@
+package org.example.apirest.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.example.apirest.dto.bulk.ImportReportDTO;
+import org.example.apirest.dto.organizador.OrganizadorRequestDTO;
+import org.example.apirest.dto.participante.ParticipanteRequestDTO;
+import org.example.apirest.entity.Evento;
+import org.example.apirest.entity.Participante;
+import org.example.apirest.exception.DuplicateResourceException;
+import org.example.apirest.io.DataFormat;
+import org.example.apirest.io.ImportReader;
+import org.example.apirest.mapper.OrganizadorMapper;
+import org.example.apirest.mapper.ParticipanteMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportService Tests")
+class ImportServiceTest {
+
+    @Mock
+    private ParticipanteService participanteService;
+
+    @Mock
+    private OrganizadorService organizadorService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ImportService importService;
+
+    private Evento evento;
+
+    @BeforeEach
+    void setUp() {
+        importService = new ImportService(participanteService, organizadorService, new ParticipanteMapper(null),
+                new OrganizadorMapper(null), Validation.buildDefaultValidatorFactory().getValidator(), entityManager);
+        evento = new Evento();
+        evento.setId(1L);
+    }
+
+    @Test
+    @DisplayName("Should write valid participantes in fixed-size chunks")
+    void testImportParticipantesInChunks() throws IOException {
+        // Given
+        StringBuilder csv = new StringBuilder("nombre,email\n");
+        for (int i = 0; i < ImportService.CHUNK_SIZE * 2 + 10; i++) {
+            csv.append("Participante ").append(i).append(",p").append(i).append("@test.com\n");
+        }
+
+        // When
+        ImportReportDTO report = importService.importParticipantes(evento, reader(DataFormat.CSV, csv.toString(),
+                ParticipanteRequestDTO.class));
+
+        // Then
+        assertThat(report.getProcessed()).isEqualTo(ImportService.CHUNK_SIZE * 2 + 10);
+        assertThat(report.getImported()).isEqualTo(ImportService.CHUNK_SIZE * 2 + 10);
+        assertThat(report.getFailed()).isZero();
+        verify(participanteService, times(2)).saveAll(eq(1L), argThat(list -> list.size() == ImportService.CHUNK_SIZE));
+        verify(participanteService, times(1)).saveAll(eq(1L), argThat(list -> list.size() == 10));
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    @DisplayName("Should report invalid and duplicated rows by line without aborting the import")
+    void testImportParticipantesReportsRowErrors() throws IOException {
+        // Given
+        String csv = "nombre,email\n" +
+                "Ana García,ana@test.com\n" +
+                "Luis Gil,no-es-un-email\n" +
+                "Eva Ruiz,ana@test.com\n" +
+                "Pedro Sanz,pedro@test.com\n";
+        when(participanteService.findExistingEmails(eq(1L), any())).thenReturn(List.of("pedro@test.com"));
+
+        // When
+        ImportReportDTO report = importService.importParticipantes(evento, reader(DataFormat.CSV, csv,
+                ParticipanteRequestDTO.class));
+
+        // Then
+        assertThat(report.getProcessed()).isEqualTo(4);
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getFailed()).isEqualTo(3);
+        assertThat(report.getErrors()).extracting(error -> error.getLine() + ":" + error.getField())
+                .containsExactly("3:email", "4:email", "5:email");
+        verify(participanteService).saveAll(eq(1L), argThat(list -> list.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Should retry a failed chunk row by row")
+    void testImportParticipantesRetriesFailedChunk() throws IOException {
+        // Given
+        String ndjson = "{\"nombre\":\"Ana García\",\"email\":\"ana@test.com\"}\n" +
+                "{\"nombre\":\"Luis Gil\",\"email\":\"luis@test.com\"}\n";
+        when(participanteService.saveAll(eq(1L), anyList())).thenThrow(new DataIntegrityViolationException("uk"));
+        when(participanteService.save(any(Participante.class)))
+                .thenReturn(new Participante())
+                .thenThrow(new DuplicateResourceException("Participante", "email", "luis@test.com"));
+
+        // When
+        ImportReportDTO report = importService.importParticipantes(evento, reader(DataFormat.NDJSON, ndjson,
+                ParticipanteRequestDTO.class));
+
+        // Then
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getFailed()).isEqualTo(1);
+        assertThat(report.getErrors().get(0).getLine()).isEqualTo(2);
+        assertThat(report.getErrors().get(0).getMessage()).contains("luis@test.com");
+    }
+
+    @Test
+    @DisplayName("Should cap the error report")
+    void testImportOrganizadoresCapsErrors() throws IOException {
+        // Given
+        StringBuilder csv = new StringBuilder("nombre,email\n");
+        for (int i = 0; i < ImportService.MAX_REPORTED_ERRORS + 5; i++) {
+            csv.append("Organizador ").append(i).append(",invalido\n");
+        }
+
+        // When
+        ImportReportDTO report = importService.importOrganizadores(reader(DataFormat.CSV, csv.toString(),
+                OrganizadorRequestDTO.class));
+
+        // Then
+        assertThat(report.getFailed()).isEqualTo(ImportService.MAX_REPORTED_ERRORS + 5);
+        assertThat(report.getErrors()).hasSize(ImportService.MAX_REPORTED_ERRORS);
+        assertThat(report.isErrorsTruncated()).isTrue();
+        verifyNoInteractions(organizadorService);
+    }
+
+    private <T> ImportReader<T> reader(DataFormat format, String content, Class<T> type) {
+        return new ImportReader<>(format, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                type, objectMapper);
+    }
+}
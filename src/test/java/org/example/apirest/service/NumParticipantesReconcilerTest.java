@@ -0,0 +1,62 @@
+package org.example.apirest.service;
+
+import org.example.apirest.repository.EventoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NumParticipantesReconciler Tests")
+class NumParticipantesReconcilerTest {
+
+    @Mock
+    private EventoRepository eventoRepository;
+
+    private NumParticipantesReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new NumParticipantesReconciler(eventoRepository, 2);
+    }
+
+    @Test
+    @DisplayName("Should repair the counter batch by batch over the evento id ranges")
+    void testReconcileInBatches() {
+        // Given
+        when(eventoRepository.findIdsAfter(0L, PageRequest.of(0, 2))).thenReturn(List.of(1L, 4L));
+        when(eventoRepository.findIdsAfter(4L, PageRequest.of(0, 2))).thenReturn(List.of(7L));
+        when(eventoRepository.findIdsAfter(7L, PageRequest.of(0, 2))).thenReturn(List.of());
+        when(eventoRepository.repairNumParticipantes(1L, 4L)).thenReturn(1);
+        when(eventoRepository.repairNumParticipantes(7L, 7L)).thenReturn(0);
+
+        // When
+        int repaired = reconciler.reconcile();
+
+        // Then
+        assertThat(repaired).isEqualTo(1);
+        verify(eventoRepository, times(2)).repairNumParticipantes(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when there are no eventos")
+    void testReconcileWithoutEventos() {
+        // Given
+        when(eventoRepository.findIdsAfter(0L, PageRequest.of(0, 2))).thenReturn(List.of());
+
+        // When
+        int repaired = reconciler.reconcile();
+
+        // Then
+        assertThat(repaired).isZero();
+        verify(eventoRepository, never()).repairNumParticipantes(anyLong(), anyLong());
+    }
+}
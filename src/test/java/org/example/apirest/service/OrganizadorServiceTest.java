@@ -1,37 +1,81 @@
 package org.example.apirest.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.validation.Validation;
+import org.example.apirest.cache.TotalCountCache;
+import org.example.apirest.dto.evento.EventoSummaryDTO;
+import org.example.apirest.dto.organizador.OrganizadorDashboardDTO;
 import org.example.apirest.entity.Organizador;
+import org.example.apirest.event.ChangeType;
+import org.example.apirest.event.EventoChangedEvent;
+import org.example.apirest.event.OrganizadorChangedEvent;
 import org.example.apirest.exception.DuplicateResourceException;
+import org.example.apirest.exception.PreconditionFailedException;
 import org.example.apirest.exception.ResourceNotFoundException;
+import org.example.apirest.mapper.OrganizadorMapper;
+import org.example.apirest.repository.EventoRepository;
+import org.example.apirest.repository.OrganizadorDashboardRow;
 import org.example.apirest.repository.OrganizadorRepository;
+import org.example.apirest.repository.ParticipanteRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("OrganizadorService Tests")
 class OrganizadorServiceTest {
 
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
     @Mock
     private OrganizadorRepository organizadorRepository;
 
+    @Mock
+    private EventoRepository eventoRepository;
+
+    @Mock
+    private ParticipanteRepository participanteRepository;
+
+    @Mock
+    private TotalCountCache totalCountCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private OrganizadorMapper organizadorMapper = new OrganizadorMapper(null);
+
+    @Spy
+    private MergePatcher mergePatcher = new MergePatcher(OBJECT_MAPPER,
+            Validation.buildDefaultValidatorFactory().getValidator());
+
     @InjectMocks
     private OrganizadorService organizadorService;
 
@@ -133,8 +177,7 @@ class OrganizadorServiceTest {
         savedOrganizador.setNombre("New Organizador");
         savedOrganizador.setEmail("new@test.com");
 
-        when(organizadorRepository.findByEmail(anyString())).thenReturn(Optional.empty());
-        when(organizadorRepository.save(any(Organizador.class))).thenReturn(savedOrganizador);
+        when(organizadorRepository.saveAndFlush(any(Organizador.class))).thenReturn(savedOrganizador);
 
         // When
         Organizador result = organizadorService.save(organizador);
@@ -142,30 +185,26 @@ class OrganizadorServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
-        verify(organizadorRepository, times(1)).findByEmail("new@test.com");
-        verify(organizadorRepository, times(1)).save(organizador);
+        verify(organizadorRepository, never()).findByEmail(anyString());
+        verify(organizadorRepository, times(1)).saveAndFlush(organizador);
     }
 
     @Test
     @DisplayName("Should throw DuplicateResourceException when email already exists")
     void testSaveDuplicateEmail() {
         // Given
-        Organizador existing = new Organizador();
-        existing.setId(1L);
-        existing.setEmail("duplicate@test.com");
-
         Organizador newOrganizador = new Organizador();
         newOrganizador.setEmail("duplicate@test.com");
 
-        when(organizadorRepository.findByEmail("duplicate@test.com"))
-                .thenReturn(Optional.of(existing));
+        when(organizadorRepository.saveAndFlush(newOrganizador)).thenThrow(new DataIntegrityViolationException(
+                "constraint", new ConstraintViolationException("constraint", null, "PUBLIC.UK_ORGANIZADORES_EMAIL")));
 
         // When & Then
         assertThatThrownBy(() -> organizadorService.save(newOrganizador))
                 .isInstanceOf(DuplicateResourceException.class)
                 .hasMessageContaining("email")
                 .hasMessageContaining("duplicate@test.com");
-        verify(organizadorRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -184,8 +223,7 @@ class OrganizadorServiceTest {
         updated.setTelefono("123456789");
 
         when(organizadorRepository.findById(id)).thenReturn(Optional.of(existing));
-        when(organizadorRepository.findByEmail("new@test.com")).thenReturn(Optional.empty());
-        when(organizadorRepository.save(any(Organizador.class))).thenReturn(existing);
+        when(organizadorRepository.saveAndFlush(any(Organizador.class))).thenReturn(existing);
 
         // When
         Organizador result = organizadorService.update(id, updated);
@@ -193,7 +231,7 @@ class OrganizadorServiceTest {
         // Then
         assertThat(result.getNombre()).isEqualTo("New Name");
         assertThat(result.getEmail()).isEqualTo("new@test.com");
-        verify(organizadorRepository, times(1)).save(existing);
+        verify(organizadorRepository, times(1)).saveAndFlush(existing);
     }
 
     @Test
@@ -201,15 +239,41 @@ class OrganizadorServiceTest {
     void testDeleteById() {
         // Given
         Long id = 1L;
-        when(organizadorRepository.existsById(id)).thenReturn(true);
-        doNothing().when(organizadorRepository).deleteById(id);
+        when(organizadorRepository.findVersionById(id)).thenReturn(Optional.of(0L));
+        when(eventoRepository.findIdsByOrganizadorId(id)).thenReturn(List.of(10L, 11L));
+        when(organizadorRepository.deleteByIdAndVersion(id, 0L)).thenReturn(1);
 
         // When
         organizadorService.deleteById(id);
 
         // Then
-        verify(organizadorRepository, times(1)).existsById(id);
-        verify(organizadorRepository, times(1)).deleteById(id);
+        verify(participanteRepository, times(1)).deleteByEventoIdIn(List.of(10L, 11L));
+        verify(eventoRepository, times(1)).deleteAllByIdInBatch(List.of(10L, 11L));
+        verify(organizadorRepository, times(1)).deleteByIdAndVersion(id, 0L);
+        verify(organizadorRepository, never()).deleteById(id);
+        verify(eventPublisher).publishEvent(new EventoChangedEvent(10L, ChangeType.DELETED));
+        verify(eventPublisher).publishEvent(new EventoChangedEvent(11L, ChangeType.DELETED));
+        verify(eventPublisher).publishEvent(new OrganizadorChangedEvent(id, ChangeType.DELETED));
+    }
+
+    @Test
+    @DisplayName("Should delete the eventos of an organizador in chunks")
+    void testDeleteByIdInChunks() {
+        // Given
+        Long id = 1L;
+        List<Long> eventoIds = LongStream.rangeClosed(1, OrganizadorService.DELETE_CHUNK_SIZE + 1).boxed().toList();
+        when(organizadorRepository.findVersionById(id)).thenReturn(Optional.of(0L));
+        when(eventoRepository.findIdsByOrganizadorId(id)).thenReturn(eventoIds);
+        when(organizadorRepository.deleteByIdAndVersion(id, 0L)).thenReturn(1);
+
+        // When
+        organizadorService.deleteById(id);
+
+        // Then
+        verify(participanteRepository).deleteByEventoIdIn(eventoIds.subList(0, OrganizadorService.DELETE_CHUNK_SIZE));
+        verify(participanteRepository).deleteByEventoIdIn(List.of((long) OrganizadorService.DELETE_CHUNK_SIZE + 1));
+        verify(eventoRepository, times(2)).deleteAllByIdInBatch(anyList());
+        verify(organizadorRepository, times(1)).deleteByIdAndVersion(id, 0L);
     }
 
     @Test
@@ -217,12 +281,26 @@ class OrganizadorServiceTest {
     void testDeleteByIdNotFound() {
         // Given
         Long id = 999L;
-        when(organizadorRepository.existsById(id)).thenReturn(false);
+        when(organizadorRepository.findVersionById(id)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> organizadorService.deleteById(id))
                 .isInstanceOf(ResourceNotFoundException.class);
-        verify(organizadorRepository, never()).deleteById(id);
+        verify(organizadorRepository, never()).deleteByIdAndVersion(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a delete whose If-Match version is stale")
+    void testDeleteByIdStaleVersion() {
+        // Given
+        Long id = 1L;
+        when(organizadorRepository.findVersionById(id)).thenReturn(Optional.of(4L));
+
+        // When & Then
+        assertThatThrownBy(() -> organizadorService.deleteById(id, 3L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(eventoRepository, never()).findIdsByOrganizadorId(any());
+        verify(organizadorRepository, never()).deleteByIdAndVersion(any(), any());
     }
 
     @Test
@@ -249,4 +327,227 @@ class OrganizadorServiceTest {
         assertThat(result).hasSize(2);
         verify(organizadorRepository, times(1)).findByNombreContainingIgnoreCase(nombre);
     }
+
+    @Test
+    @DisplayName("Should find evento summaries of organizador")
+    void testFindEventoSummaries() {
+        // Given
+        Long id = 1L;
+        EventoSummaryDTO summary = EventoSummaryDTO.builder().id(10L).titulo("Evento").build();
+        when(organizadorRepository.existsById(id)).thenReturn(true);
+        when(eventoRepository.findSummariesByOrganizadorId(id)).thenReturn(List.of(summary));
+
+        // When
+        List<EventoSummaryDTO> result = organizadorService.findEventoSummaries(id);
+
+        // Then
+        assertThat(result).containsExactly(summary);
+        verify(organizadorRepository, never()).findById(id);
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when listing eventos of unknown organizador")
+    void testFindEventoSummariesNotFound() {
+        // Given
+        Long id = 999L;
+        when(organizadorRepository.existsById(id)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> organizadorService.findEventoSummaries(id))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(eventoRepository, never()).findSummariesByOrganizadorId(id);
+    }
+
+    @Test
+    @DisplayName("Should build the dashboard from the rows of a single query")
+    void testFindDashboard() {
+        // Given
+        Long id = 1L;
+        when(organizadorRepository.findDashboardRowsById(eq(id), any(LocalDateTime.class), eq(0L), eq(Pageable.unpaged())))
+                .thenReturn(new SliceImpl<>(List.of(dashboardRow(2L, 10L, "Evento 10", 4),
+                        dashboardRow(2L, 11L, "Evento 11", 0))));
+
+        // When
+        OrganizadorDashboardDTO result = organizadorService.findDashboard(id);
+
+        // Then
+        assertThat(result.getNombre()).isEqualTo("Org");
+        assertThat(result.getTotalEventos()).isEqualTo(2L);
+        assertThat(result.getTotalParticipantes()).isEqualTo(4L);
+        assertThat(result.getEventos()).extracting(EventoSummaryDTO::getId).containsExactly(10L, 11L);
+        assertThat(result.getEventos()).extracting(EventoSummaryDTO::getNumParticipantes).containsExactly(4, 0);
+        assertThat(result.isHasNext()).isFalse();
+        verify(organizadorRepository, never()).existsById(id);
+        verifyNoInteractions(eventoRepository);
+    }
+
+    @Test
+    @DisplayName("Should return an empty evento list for an organizador without eventos")
+    void testFindDashboardWithoutEventos() {
+        // Given
+        Long id = 1L;
+        when(organizadorRepository.findDashboardRowsById(eq(id), any(LocalDateTime.class), eq(0L), eq(Pageable.unpaged())))
+                .thenReturn(new SliceImpl<>(List.of(dashboardRow(0L, null, null, 0))));
+
+        // When
+        OrganizadorDashboardDTO result = organizadorService.findDashboard(id);
+
+        // Then
+        assertThat(result.getTotalEventos()).isZero();
+        assertThat(result.getEventos()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should page the dashboard eventos by keyset")
+    void testFindDashboardAfter() {
+        // Given
+        Long id = 1L;
+        when(organizadorRepository.findDashboardRowsById(eq(id), any(LocalDateTime.class), eq(10L),
+                eq(PageRequest.ofSize(1))))
+                .thenReturn(new SliceImpl<>(List.of(dashboardRow(3L, 11L, "Evento 11", 0)), PageRequest.ofSize(1), true));
+
+        // When
+        OrganizadorDashboardDTO result = organizadorService.findDashboard(id, 10L, 1);
+
+        // Then
+        assertThat(result.getTotalEventos()).isEqualTo(3L);
+        assertThat(result.getEventos()).extracting(EventoSummaryDTO::getId).containsExactly(11L);
+        assertThat(result.isHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException for the dashboard of unknown organizador")
+    void testFindDashboardNotFound() {
+        // Given
+        when(organizadorRepository.findDashboardRowsById(eq(999L), any(LocalDateTime.class), eq(0L), any()))
+                .thenReturn(new SliceImpl<>(List.of()));
+
+        // When & Then
+        assertThatThrownBy(() -> organizadorService.findDashboard(999L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when reading the version of a missing organizador")
+    void testFindVersionNotFound() {
+        // Given
+        Long id = 999L;
+        when(organizadorRepository.findVersionById(id)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> organizadorService.findVersion(id))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("999");
+    }
+
+    @Test
+    @DisplayName("Should save a batch of organizadores and reject emails that already exist")
+    void testSaveAll() {
+        // Given
+        Organizador first = new Organizador();
+        first.setEmail("a@test.com");
+        Organizador second = new Organizador();
+        second.setEmail("b@test.com");
+        List<Organizador> organizadores = List.of(first, second);
+
+        when(organizadorRepository.findEmailsByEmailIn(any())).thenReturn(List.of()).thenReturn(List.of("b@test.com"));
+        when(organizadorRepository.saveAllAndFlush(organizadores)).thenReturn(organizadores);
+
+        // When
+        List<Organizador> result = organizadorService.saveAll(organizadores);
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThatThrownBy(() -> organizadorService.saveAll(organizadores))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessageContaining("b@test.com");
+        verify(organizadorRepository, times(1)).saveAllAndFlush(organizadores);
+    }
+
+    @Test
+    @DisplayName("Should patch the organizador through dirty checking without calling save")
+    void testPatch() throws Exception {
+        // Given
+        Organizador organizador = new Organizador();
+        organizador.setId(1L);
+        organizador.setNombre("Nombre original");
+        organizador.setEmail("org@test.com");
+        organizador.setTelefono("600000000");
+        when(organizadorRepository.findById(1L)).thenReturn(Optional.of(organizador));
+
+        // When
+        Organizador result = organizadorService.patch(1L, OBJECT_MAPPER.readTree("{\"telefono\":null}"), null);
+
+        // Then
+        assertThat(result.getTelefono()).isNull();
+        assertThat(result.getNombre()).isEqualTo("Nombre original");
+        verify(organizadorRepository, times(1)).flush();
+        verify(organizadorRepository, never()).save(any());
+        verify(organizadorRepository, never()).saveAndFlush(any());
+    }
+
+    private static OrganizadorDashboardRow dashboardRow(Long totalEventos, Long eventoId, String titulo,
+                                                        int numParticipantes) {
+        return new OrganizadorDashboardRow() {
+            @Override
+            public Long getId() {
+                return 1L;
+            }
+
+            @Override
+            public String getNombre() {
+                return "Org";
+            }
+
+            @Override
+            public String getEmail() {
+                return "org@test.com";
+            }
+
+            @Override
+            public String getTelefono() {
+                return null;
+            }
+
+            @Override
+            public Long getTotalEventos() {
+                return totalEventos;
+            }
+
+            @Override
+            public Long getTotalParticipantes() {
+                return totalEventos == 0 ? 0L : 4L;
+            }
+
+            @Override
+            public LocalDateTime getProximoEvento() {
+                return null;
+            }
+
+            @Override
+            public Long getEventoId() {
+                return eventoId;
+            }
+
+            @Override
+            public String getTitulo() {
+                return titulo;
+            }
+
+            @Override
+            public LocalDateTime getFecha() {
+                return null;
+            }
+
+            @Override
+            public String getUbicacion() {
+                return null;
+            }
+
+            @Override
+            public Integer getNumParticipantes() {
+                return numParticipantes;
+            }
+        };
+    }
 }
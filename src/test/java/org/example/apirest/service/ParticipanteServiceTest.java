@@ -1,39 +1,88 @@
 package org.example.apirest.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.example.apirest.cache.TotalCountCache;
+import org.example.apirest.dto.pagination.CountMode;
+import org.example.apirest.dto.participante.ParticipanteResponseDTO;
+import org.example.apirest.dto.search.SearchIndexStatsDTO;
 import org.example.apirest.entity.Evento;
 import org.example.apirest.entity.Participante;
+import org.example.apirest.event.ChangeType;
+import org.example.apirest.event.ParticipanteChangedEvent;
+import org.example.apirest.exception.CapacityExceededException;
 import org.example.apirest.exception.DuplicateResourceException;
+import org.example.apirest.exception.PreconditionFailedException;
 import org.example.apirest.exception.ResourceNotFoundException;
+import org.example.apirest.mapper.ParticipanteMapper;
+import org.example.apirest.repository.EventoRepository;
 import org.example.apirest.repository.ParticipanteRepository;
+import org.example.apirest.search.ParticipanteSearchIndex;
+import org.example.apirest.search.TrigramIndex;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ParticipanteService Tests")
 class ParticipanteServiceTest {
 
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
     @Mock
     private ParticipanteRepository participanteRepository;
 
+    @Mock
+    private EventoRepository eventoRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ParticipanteSearchIndex participanteSearchIndex;
+
+    @Mock
+    private TotalCountCache totalCountCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ParticipanteMapper participanteMapper = new ParticipanteMapper(null);
+
+    @Spy
+    private MergePatcher mergePatcher = new MergePatcher(OBJECT_MAPPER,
+            Validation.buildDefaultValidatorFactory().getValidator());
+
     @InjectMocks
     private ParticipanteService participanteService;
 
@@ -101,6 +150,36 @@ class ParticipanteServiceTest {
         verify(participanteRepository, times(1)).findById(id);
     }
 
+    @Test
+    @DisplayName("Should find participante with its evento by id")
+    void testFindDetailById() {
+        // Given
+        Long id = 1L;
+        Participante participante = new Participante();
+        participante.setId(id);
+        when(participanteRepository.findWithEventoById(id)).thenReturn(Optional.of(participante));
+
+        // When
+        Participante result = participanteService.findDetailById(id);
+
+        // Then
+        assertThat(result).isSameAs(participante);
+        verify(participanteRepository, times(1)).findWithEventoById(id);
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when participante detail not found")
+    void testFindDetailByIdNotFound() {
+        // Given
+        Long id = 999L;
+        when(participanteRepository.findWithEventoById(id)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> participanteService.findDetailById(id))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Participante");
+    }
+
     @Test
     @DisplayName("Should throw ResourceNotFoundException when participante not found")
     void testFindByIdNotFound() {
@@ -133,9 +212,8 @@ class ParticipanteServiceTest {
         savedParticipante.setEmail("new@test.com");
         savedParticipante.setEvento(evento);
 
-        when(participanteRepository.findByEmailAndEventoId(anyString(), anyLong()))
-                .thenReturn(Optional.empty());
-        when(participanteRepository.save(any(Participante.class))).thenReturn(savedParticipante);
+        when(participanteRepository.saveAndFlush(any(Participante.class))).thenReturn(savedParticipante);
+        when(eventoRepository.reservePlazas(1L, 1)).thenReturn(1);
 
         // When
         Participante result = participanteService.save(participante);
@@ -143,7 +221,28 @@ class ParticipanteServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
-        verify(participanteRepository, times(1)).save(participante);
+        verify(participanteRepository, times(1)).saveAndFlush(participante);
+        verify(participanteRepository, never()).findByEmailAndEventoId(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should throw CapacityExceededException when the evento is full")
+    void testSaveEventoFull() {
+        // Given
+        Evento evento = new Evento();
+        evento.setId(1L);
+        Participante participante = new Participante();
+        participante.setEmail("late@test.com");
+        participante.setEvento(evento);
+
+        when(participanteRepository.saveAndFlush(participante)).thenReturn(participante);
+        when(eventoRepository.reservePlazas(1L, 1)).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> participanteService.save(participante))
+                .isInstanceOf(CapacityExceededException.class)
+                .hasMessageContaining("1");
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -153,23 +252,116 @@ class ParticipanteServiceTest {
         Evento evento = new Evento();
         evento.setId(1L);
 
-        Participante existing = new Participante();
-        existing.setId(1L);
-        existing.setEmail("duplicate@test.com");
-        existing.setEvento(evento);
-
         Participante newParticipante = new Participante();
         newParticipante.setEmail("duplicate@test.com");
         newParticipante.setEvento(evento);
 
-        when(participanteRepository.findByEmailAndEventoId("duplicate@test.com", 1L))
-                .thenReturn(Optional.of(existing));
+        when(participanteRepository.saveAndFlush(newParticipante))
+                .thenThrow(uniqueViolation(Participante.EMAIL_EVENTO_UNIQUE));
+
+        // When & Then
+        assertThatThrownBy(() -> participanteService.save(newParticipante))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessageContaining("email")
+                .hasMessageContaining("duplicate@test.com");
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should rethrow integrity violations that are not the email constraint")
+    void testSaveOtherIntegrityViolation() {
+        // Given
+        Evento evento = new Evento();
+        evento.setId(1L);
+        Participante newParticipante = new Participante();
+        newParticipante.setEmail("new@test.com");
+        newParticipante.setEvento(evento);
+
+        when(participanteRepository.saveAndFlush(newParticipante))
+                .thenThrow(uniqueViolation("fk_participantes_evento"));
 
         // When & Then
         assertThatThrownBy(() -> participanteService.save(newParticipante))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("Should save a batch of participantes with one duplicate check")
+    void testSaveAll() {
+        // Given
+        Evento evento = new Evento();
+        evento.setId(1L);
+        List<Participante> participantes = List.of(
+                participanteDeLote(evento, "a@test.com"), participanteDeLote(evento, "b@test.com"));
+
+        when(participanteRepository.findEmailsByEventoIdAndEmailIn(eq(1L), any())).thenReturn(List.of());
+        when(participanteRepository.saveAllAndFlush(participantes)).thenReturn(participantes);
+        when(eventoRepository.reservePlazas(1L, 2)).thenReturn(1);
+
+        // When
+        List<Participante> result = participanteService.saveAll(1L, participantes);
+
+        // Then
+        assertThat(result).hasSize(2);
+        verify(eventoRepository, times(1)).reservePlazas(1L, 2);
+        verify(participanteRepository, times(1)).findEmailsByEventoIdAndEmailIn(eq(1L), any());
+        verify(participanteRepository, never()).findByEmailAndEventoId(anyString(), anyLong());
+        verify(eventPublisher, times(2)).publishEvent(any(ParticipanteChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a batch that repeats an email")
+    void testSaveAllRepeatedEmail() {
+        // Given
+        Evento evento = new Evento();
+        evento.setId(1L);
+        List<Participante> participantes = List.of(
+                participanteDeLote(evento, "a@test.com"), participanteDeLote(evento, "a@test.com"));
+
+        // When & Then
+        assertThatThrownBy(() -> participanteService.saveAll(1L, participantes))
                 .isInstanceOf(DuplicateResourceException.class)
-                .hasMessageContaining("email");
-        verify(participanteRepository, never()).save(any());
+                .hasMessageContaining("a@test.com");
+        verify(participanteRepository, never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a batch with an email already registered in the evento")
+    void testSaveAllDuplicateEmailInEvento() {
+        // Given
+        Evento evento = new Evento();
+        evento.setId(1L);
+        List<Participante> participantes = List.of(
+                participanteDeLote(evento, "a@test.com"), participanteDeLote(evento, "b@test.com"));
+
+        when(participanteRepository.findEmailsByEventoIdAndEmailIn(eq(1L), any())).thenReturn(List.of("b@test.com"));
+
+        // When & Then
+        assertThatThrownBy(() -> participanteService.saveAll(1L, participantes))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessageContaining("b@test.com");
+        verify(participanteRepository, never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Should hand every streamed participante to the consumer and detach it")
+    void testExportByEventoId() {
+        // Given
+        Participante first = new Participante();
+        first.setId(1L);
+        Participante second = new Participante();
+        second.setId(2L);
+        List<Long> exported = new ArrayList<>();
+
+        when(participanteRepository.streamByEventoId(1L)).thenReturn(Stream.of(first, second));
+
+        // When
+        participanteService.exportByEventoId(1L, participante -> exported.add(participante.getId()));
+
+        // Then
+        assertThat(exported).containsExactly(1L, 2L);
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
     }
 
     @Test
@@ -217,4 +409,246 @@ class ParticipanteServiceTest {
         assertThat(result.getContent()).hasSize(1);
         verify(participanteRepository, times(1)).findByEventoId(eventoId, pageable);
     }
+
+    @Test
+    @DisplayName("Should find projected participantes by evento id with pagination")
+    void testFindResponsesByEventoId() {
+        // Given
+        Long eventoId = 1L;
+        Pageable pageable = PageRequest.of(0, 10);
+        ParticipanteResponseDTO dto = ParticipanteResponseDTO.builder().id(1L).nombre("Part 1").build();
+        Page<ParticipanteResponseDTO> page = new PageImpl<>(List.of(dto), pageable, 1);
+        when(participanteRepository.findResponsesByEventoId(eventoId, pageable)).thenReturn(page);
+
+        // When
+        Slice<ParticipanteResponseDTO> result = participanteService.findResponsesByEventoId(
+                eventoId, pageable, CountMode.EXACT);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(dto);
+        verify(participanteRepository, never()).findByEventoId(eventoId, pageable);
+    }
+
+    @Test
+    @DisplayName("Should use cached per-evento total when count mode is cached")
+    void testFindResponsesByEventoIdWithCachedCount() {
+        // Given
+        Long eventoId = 1L;
+        Pageable pageable = PageRequest.of(0, 10);
+        ParticipanteResponseDTO dto = ParticipanteResponseDTO.builder().id(1L).nombre("Part 1").build();
+        when(participanteRepository.findSliceOfResponsesByEventoId(eventoId, pageable))
+                .thenReturn(new SliceImpl<>(List.of(dto), pageable, true));
+        when(totalCountCache.get(eq(TotalCountCache.participantesDeEvento(eventoId)), any())).thenReturn(37L);
+
+        // When
+        Slice<ParticipanteResponseDTO> result = participanteService.findResponsesByEventoId(
+                eventoId, pageable, CountMode.CACHED);
+
+        // Then
+        assertThat(((Page<ParticipanteResponseDTO>) result).getTotalElements()).isEqualTo(37L);
+        verify(participanteRepository, never()).countByEventoId(eventoId);
+        verify(participanteRepository, never()).findResponsesByEventoId(eventoId, pageable);
+    }
+
+    @Test
+    @DisplayName("Should delete participante and publish change with its evento")
+    void testDeleteById() {
+        // Given
+        Evento evento = new Evento();
+        evento.setId(3L);
+        Participante participante = new Participante();
+        participante.setId(1L);
+        participante.setEvento(evento);
+        when(participanteRepository.findById(1L)).thenReturn(Optional.of(participante));
+
+        // When
+        participanteService.deleteById(1L);
+
+        // Then
+        verify(participanteRepository, times(1)).delete(participante);
+        verify(eventoRepository, times(1)).releasePlazas(3L, 1);
+        verify(eventPublisher).publishEvent(new ParticipanteChangedEvent(1L, 3L, ChangeType.DELETED));
+    }
+
+    @Test
+    @DisplayName("Should move the reserved plaza when a participante changes evento")
+    void testUpdateMovesPlaza() {
+        // Given
+        Evento origen = new Evento();
+        origen.setId(1L);
+        Evento destino = new Evento();
+        destino.setId(2L);
+        Participante existing = new Participante();
+        existing.setId(5L);
+        existing.setEmail("move@test.com");
+        existing.setEvento(origen);
+        Participante cambios = new Participante();
+        cambios.setNombre("Movido");
+        cambios.setEmail("move@test.com");
+        cambios.setEvento(destino);
+
+        when(participanteRepository.findById(5L)).thenReturn(Optional.of(existing));
+        when(participanteRepository.saveAndFlush(existing)).thenReturn(existing);
+        when(eventoRepository.reservePlazas(2L, 1)).thenReturn(1);
+
+        // When
+        participanteService.update(5L, cambios);
+
+        // Then
+        verify(eventoRepository, times(1)).releasePlazas(1L, 1);
+        verify(eventoRepository, times(1)).reservePlazas(2L, 1);
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when deleting unknown participante")
+    void testDeleteByIdNotFound() {
+        // Given
+        when(participanteRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> participanteService.deleteById(999L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(participanteRepository, never()).delete(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should search participantes by email through the index keeping its ranking")
+    void testSearchByEmail() {
+        // Given
+        ParticipanteResponseDTO dto1 = ParticipanteResponseDTO.builder().id(1L).email("ana.garcia@test.com").build();
+        ParticipanteResponseDTO dto2 = ParticipanteResponseDTO.builder().id(2L).email("ana@test.com").build();
+
+        when(participanteSearchIndex.isReady()).thenReturn(true);
+        when(participanteSearchIndex.search("ana", 10)).thenReturn(List.of(2L, 1L));
+        when(participanteRepository.findResponsesByIdIn(List.of(2L, 1L))).thenReturn(List.of(dto1, dto2));
+
+        // When
+        List<ParticipanteResponseDTO> result = participanteService.searchByEmail("ana", 10);
+
+        // Then
+        assertThat(result).extracting(ParticipanteResponseDTO::getId).containsExactly(2L, 1L);
+        verify(participanteSearchIndex, never()).remove(any());
+    }
+
+    @Test
+    @DisplayName("Should drop index entries whose participante no longer exists and top the result up")
+    void testSearchByEmailEvictsMissingIds() {
+        // Given
+        ParticipanteResponseDTO dto1 = ParticipanteResponseDTO.builder().id(1L).email("ana@test.com").build();
+        ParticipanteResponseDTO dto4 = ParticipanteResponseDTO.builder().id(4L).email("ana.ruiz@test.com").build();
+
+        when(participanteSearchIndex.isReady()).thenReturn(true);
+        when(participanteSearchIndex.search("ana", 2)).thenReturn(List.of(7L, 1L), List.of(1L, 4L));
+        when(participanteRepository.findResponsesByIdIn(List.of(7L, 1L))).thenReturn(List.of(dto1));
+        when(participanteRepository.findResponsesByIdIn(List.of(4L))).thenReturn(List.of(dto4));
+
+        // When
+        List<ParticipanteResponseDTO> result = participanteService.searchByEmail("ana", 2);
+
+        // Then
+        assertThat(result).containsExactly(dto1, dto4);
+        verify(participanteSearchIndex).remove(List.of(7L));
+    }
+
+    @Test
+    @DisplayName("Should report search index memory per email")
+    void testSearchIndexStats() {
+        // Given
+        when(participanteSearchIndex.isReady()).thenReturn(true);
+        when(participanteSearchIndex.stats()).thenReturn(new TrigramIndex.Stats(4, 30, 60, 2000));
+
+        // When
+        SearchIndexStatsDTO result = participanteService.searchIndexStats();
+
+        // Then
+        assertThat(result.isReady()).isTrue();
+        assertThat(result.getDocuments()).isEqualTo(4);
+        assertThat(result.getEstimatedBytes()).isEqualTo(2000);
+        assertThat(result.getBytesPerDocument()).isEqualTo(500);
+    }
+
+    private Participante participanteDeLote(Evento evento, String email) {
+        Participante participante = new Participante();
+        participante.setNombre("Participante");
+        participante.setEmail(email);
+        participante.setEvento(evento);
+        return participante;
+    }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("constraint",
+                new ConstraintViolationException("constraint", null, "PUBLIC." + constraintName.toUpperCase()));
+    }
+
+    @Test
+    @DisplayName("Should patch the participante without loading its evento")
+    void testPatchNombreOnly() throws Exception {
+        // Given
+        Evento evento = new Evento();
+        evento.setId(1L);
+        Participante participante = new Participante();
+        participante.setId(5L);
+        participante.setNombre("Nombre original");
+        participante.setEmail("patch@test.com");
+        participante.setEvento(evento);
+        when(participanteRepository.findById(5L)).thenReturn(Optional.of(participante));
+
+        // When
+        Participante result = participanteService.patch(5L, OBJECT_MAPPER.readTree("{\"nombre\":\"Nombre nuevo\"}"), null);
+
+        // Then
+        assertThat(result.getNombre()).isEqualTo("Nombre nuevo");
+        assertThat(result.getEmail()).isEqualTo("patch@test.com");
+        verify(participanteRepository, times(1)).flush();
+        verify(participanteRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(eventoRepository);
+    }
+
+    @Test
+    @DisplayName("Should move the reserved plaza when a patch changes the evento")
+    void testPatchMovesPlaza() throws Exception {
+        // Given
+        Evento origen = new Evento();
+        origen.setId(1L);
+        Evento destino = new Evento();
+        destino.setId(2L);
+        Participante participante = new Participante();
+        participante.setId(5L);
+        participante.setNombre("Movido");
+        participante.setEmail("move@test.com");
+        participante.setEvento(origen);
+        when(participanteRepository.findById(5L)).thenReturn(Optional.of(participante));
+        when(eventoRepository.findById(2L)).thenReturn(Optional.of(destino));
+        when(eventoRepository.reservePlazas(2L, 1)).thenReturn(1);
+
+        // When
+        Participante result = participanteService.patch(5L, OBJECT_MAPPER.readTree("{\"eventoId\":2}"), null);
+
+        // Then
+        assertThat(result.getEvento()).isSameAs(destino);
+        verify(eventoRepository, times(1)).releasePlazas(1L, 1);
+        verify(eventoRepository, times(1)).reservePlazas(2L, 1);
+        verify(eventPublisher).publishEvent(new ParticipanteChangedEvent(
+                5L, 2L, 1L, "move@test.com", ChangeType.UPDATED));
+    }
+
+    @Test
+    @DisplayName("Should reject a patch whose If-Match version is stale")
+    void testPatchStaleVersion() {
+        // Given
+        Evento evento = new Evento();
+        evento.setId(1L);
+        Participante participante = new Participante();
+        participante.setId(5L);
+        participante.setVersion(2L);
+        participante.setEvento(evento);
+        when(participanteRepository.findById(5L)).thenReturn(Optional.of(participante));
+
+        // When & Then
+        assertThatThrownBy(() -> participanteService.patch(5L, OBJECT_MAPPER.readTree("{\"nombre\":\"Otro\"}"), 1L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(participanteRepository, never()).flush();
+        verifyNoInteractions(eventoRepository);
+    }
 }
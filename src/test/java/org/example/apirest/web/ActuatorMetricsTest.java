@@ -0,0 +1,66 @@
+package org.example.apirest.web;
+
+import org.example.apirest.entity.Organizador;
+import org.example.apirest.repository.OrganizadorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Actuator Metrics Tests")
+class ActuatorMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrganizadorRepository organizadorRepository;
+
+    @AfterEach
+    void tearDown() {
+        organizadorRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - Should expose service, repository, request, pool and Hibernate metrics")
+    void testPrometheusScrape() throws Exception {
+        // Given
+        Organizador organizador = new Organizador();
+        organizador.setNombre("Test Organizador");
+        organizador.setEmail("org@test.com");
+        organizadorRepository.save(organizador);
+        mockMvc.perform(get("/api/v1/organizadores/{id}", organizador.getId())).andExpect(status().isOk());
+
+        // When
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertThat(scrape)
+                .contains("service_invocations_seconds_bucket{")
+                .contains("class=\"org.example.apirest.service.OrganizadorService\"")
+                .contains("spring_data_repository_invocations_seconds_bucket{")
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("uri=\"/api/v1/organizadores/{id}\"")
+                .contains("hikaricp_connections_active")
+                .contains("hibernate_query_executions_total")
+                .contains("hibernate_entities_loads_total")
+                .contains("hibernate_collections_fetches_total")
+                .contains("hibernate_second_level_cache_requests_total{")
+                .contains("region=\"organizadores\"");
+    }
+}
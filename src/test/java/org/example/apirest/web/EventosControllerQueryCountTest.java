@@ -0,0 +1,309 @@
+package org.example.apirest.web;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.apirest.cache.EventoDetailCache;
+import org.example.apirest.cache.UpcomingEventosCache;
+import org.example.apirest.entity.Evento;
+import org.example.apirest.entity.Organizador;
+import org.example.apirest.entity.Participante;
+import org.example.apirest.repository.EventoRepository;
+import org.example.apirest.repository.OrganizadorRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties", properties = "app.eventos.detail-cache.ttl=1m")
+@DisplayName("EventosController Query Count Tests")
+class EventosControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrganizadorRepository organizadorRepository;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UpcomingEventosCache upcomingEventosCache;
+
+    @Autowired
+    private EventoDetailCache eventoDetailCache;
+
+    private Evento evento;
+
+    @BeforeEach
+    void setUp() {
+        Organizador organizador = new Organizador();
+        organizador.setNombre("Test Organizador");
+        organizador.setEmail("org@test.com");
+        organizadorRepository.save(organizador);
+
+        evento = new Evento();
+        evento.setTitulo("Evento detalle");
+        evento.setDescripcion("Descripcion del evento");
+        evento.setOrganizador(organizador);
+        for (int i = 1; i <= 5; i++) {
+            Participante participante = new Participante();
+            participante.setNombre("Part " + i);
+            participante.setEmail("p" + i + "@test.com");
+            evento.addParticipante(participante);
+        }
+        eventoRepository.save(evento);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventoRepository.deleteAll();
+        organizadorRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/{id} - Should run exactly one statement per request")
+    void testGetEventoByIdRunsSingleStatement() throws Exception {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        mockMvc.perform(get("/api/v1/eventos/{id}", evento.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.organizador.nombre").value("Test Organizador"))
+                .andExpect(jsonPath("$.participantes", hasSize(5)));
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/{id} - Should answer a matching If-None-Match with one statement and 304")
+    void testGetEventoByIdNotModifiedRunsSingleStatement() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/v1/eventos/{id}", evento.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+        eventoDetailCache.invalidateAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        mockMvc.perform(get("/api/v1/eventos/{id}", evento.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/{id} - Should answer If-None-Match from the cached detail without statements")
+    void testGetEventoByIdNotModifiedFromDetailCache() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/v1/eventos/{id}", evento.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        mockMvc.perform(get("/api/v1/eventos/{id}", evento.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/{id} - Should change the ETag when a participante changes")
+    void testGetEventoByIdETagChangesWithParticipantes() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/v1/eventos/{id}", evento.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+        Participante participante = evento.getParticipantes().get(0);
+
+        // When
+        mockMvc.perform(delete("/api/v1/participantes/{id}", participante.getId()))
+                .andExpect(status().isNoContent());
+
+        // Then
+        mockMvc.perform(get("/api/v1/eventos/{id}", evento.getId()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participantes", hasSize(4)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/{id} - Should change the ETag when a participante is edited in place")
+    void testGetEventoByIdETagChangesWithParticipanteEdits() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/v1/eventos/{id}", evento.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+        Participante participante = evento.getParticipantes().get(0);
+
+        // When
+        mockMvc.perform(patch("/api/v1/participantes/{id}", participante.getId())
+                        .contentType(MediaTypes.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"nombre\":\"Nombre editado\"}"))
+                .andExpect(status().isOk());
+
+        // Then
+        mockMvc.perform(get("/api/v1/eventos/{id}", evento.getId()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participantes[?(@.nombre == 'Nombre editado')]", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/eventos/{id} - Should not conflict with a participante registered after the read")
+    void testUpdateEventoAfterParticipanteRegistered() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/v1/eventos/{id}", evento.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(post("/api/v1/eventos/{id}/participantes", evento.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nombre\":\"Nueva\",\"email\":\"nueva@test.com\",\"eventoId\":"
+                                + evento.getId() + "}"))
+                .andExpect(status().isCreated());
+
+        // When & Then
+        mockMvc.perform(put("/api/v1/eventos/{id}", evento.getId())
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"titulo\":\"Evento editado\",\"descripcion\":\"Descripcion editada\","
+                                + "\"organizadorId\":" + evento.getOrganizador().getId() + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.titulo").value("Evento editado"));
+        mockMvc.perform(get("/api/v1/eventos/{id}", evento.getId()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participantes", hasSize(6)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/upcoming - Should answer from memory until an evento is created")
+    void testGetUpcomingEventosServedFromMemory() throws Exception {
+        // Given
+        upcomingEventosCache.invalidate();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        mockMvc.perform(get("/api/v1/eventos/upcoming"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+        statistics.clear();
+
+        // When
+        mockMvc.perform(get("/api/v1/eventos/upcoming"))
+                .andExpect(status().isOk());
+        long statementsFromMemory = statistics.getPrepareStatementCount();
+        mockMvc.perform(post("/api/v1/eventos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"titulo\":\"Evento próximo\",\"descripcion\":\"Descripcion del evento\"," +
+                                "\"fecha\":\"" + LocalDateTime.now().plusDays(1).withNano(0) + "\"," +
+                                "\"organizadorId\":" + evento.getOrganizador().getId() + "}"))
+                .andExpect(status().isCreated());
+
+        // Then
+        assertThat(statementsFromMemory).isZero();
+        mockMvc.perform(get("/api/v1/eventos/upcoming"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].titulo").value("Evento próximo"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/eventos/{id}/participantes:batch - Should insert the batch with JDBC batching")
+    void testAddParticipantesBatchUsesJdbcBatching() throws Exception {
+        // Given
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 120; i++) {
+            body.append(i == 0 ? "" : ",")
+                    .append("{\"nombre\":\"Lote ").append(i).append("\",\"email\":\"lote").append(i).append("@test.com\"}");
+        }
+        body.append("]");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        mockMvc.perform(post("/api/v1/eventos/{id}/participantes:batch", evento.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.toString()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(120)));
+
+        // Then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(15);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/{id}/participantes/export - Should stream NDJSON without filling the second-level cache")
+    void testExportParticipantesStreamsNdjson() throws Exception {
+        // Given
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/eventos/{id}/participantes/export", evento.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertThat(body.lines()).hasSize(5).allMatch(line -> line.startsWith("{\"id\":"));
+        assertThat(statistics.getDomainDataRegionStatistics("participantes").getPutCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/eventos/{id}/participantes/import - Should import a CSV in batched chunks")
+    void testImportParticipantesUsesJdbcBatching() throws Exception {
+        // Given
+        StringBuilder csv = new StringBuilder("nombre,email,telefono\n");
+        for (int i = 0; i < 1200; i++) {
+            csv.append("Importado ").append(i).append(",import").append(i).append("@test.com,\n");
+        }
+        csv.append("Sin email,,\n");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        mockMvc.perform(post("/api/v1/eventos/{id}/participantes/import", evento.getId())
+                        .contentType("text/csv")
+                        .content(csv.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(1201))
+                .andExpect(jsonPath("$.imported").value(1200))
+                .andExpect(jsonPath("$.errors[0].line").value(1202))
+                .andExpect(jsonPath("$.errors[0].field").value("email"));
+
+        // Then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1200);
+        assertThat(statistics.getTransactionCount()).isLessThan(15);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(100);
+    }
+}
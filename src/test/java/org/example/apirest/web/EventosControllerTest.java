@@ -1,17 +1,28 @@
 package org.example.apirest.web;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.apirest.cache.EventoDetailCache;
+import org.example.apirest.dto.bulk.ImportReportDTO;
+import org.example.apirest.dto.evento.EventoDetailVersionDTO;
 import org.example.apirest.dto.evento.EventoRequestDTO;
 import org.example.apirest.dto.evento.EventoResponseDTO;
+import org.example.apirest.dto.evento.EventoWithParticipantesDTO;
 import org.example.apirest.dto.organizador.OrganizadorResponseDTO;
+import org.example.apirest.dto.pagination.CountMode;
+import org.example.apirest.dto.participante.ParticipanteRequestDTO;
+import org.example.apirest.dto.participante.ParticipanteResponseDTO;
 import org.example.apirest.entity.Evento;
 import org.example.apirest.entity.Organizador;
+import org.example.apirest.entity.Participante;
 import org.example.apirest.exception.ResourceNotFoundException;
 import org.example.apirest.mapper.EventoMapper;
 import org.example.apirest.mapper.ParticipanteMapper;
 import org.example.apirest.service.EventoService;
+import org.example.apirest.service.ImportService;
 import org.example.apirest.service.OrganizadorService;
 import org.example.apirest.service.ParticipanteService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,15 +31,24 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -47,32 +67,34 @@ class EventosControllerTest {
     @MockBean
     private EventoService eventoService;
 
+    @MockBean
+    private EventoDetailCache eventoDetailCache;
+
     @MockBean
     private OrganizadorService organizadorService;
 
     @MockBean
     private ParticipanteService participanteService;
 
+    @MockBean
+    private ImportService importService;
+
     @MockBean
     private EventoMapper eventoMapper;
 
     @MockBean
     private ParticipanteMapper participanteMapper;
 
+    @BeforeEach
+    void setUp() {
+        when(eventoDetailCache.get(any(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<EventoDetailCache.Detail>>getArgument(1).get());
+    }
+
     @Test
     @DisplayName("GET /api/v1/eventos - Should return page of eventos")
     void testGetAllEventos() throws Exception {
         // Given
-        Organizador org = new Organizador();
-        org.setId(1L);
-        org.setNombre("Test Org");
-
-        Evento evento1 = new Evento();
-        evento1.setId(1L);
-        evento1.setTitulo("Evento 1");
-        evento1.setDescripcion("Descripcion 1");
-        evento1.setOrganizador(org);
-
         OrganizadorResponseDTO orgDTO = OrganizadorResponseDTO.builder()
                 .id(1L)
                 .nombre("Test Org")
@@ -85,11 +107,10 @@ class EventosControllerTest {
                 .organizador(orgDTO)
                 .build();
 
-        List<Evento> eventos = Arrays.asList(evento1);
-        Page<Evento> page = new PageImpl<>(eventos, PageRequest.of(0, 10), 1);
+        List<EventoResponseDTO> eventos = Arrays.asList(dto1);
+        Page<EventoResponseDTO> page = new PageImpl<>(eventos, PageRequest.of(0, 10), 1);
 
-        when(eventoService.findAll(any(PageRequest.class))).thenReturn(page);
-        when(eventoMapper.toResponseDTO(evento1)).thenReturn(dto1);
+        when(eventoService.findAllResponses(any(PageRequest.class), eq(CountMode.EXACT))).thenReturn(page);
 
         // When & Then
         mockMvc.perform(get("/api/v1/eventos")
@@ -100,7 +121,50 @@ class EventosControllerTest {
                 .andExpect(jsonPath("$.content[0].id").value(1))
                 .andExpect(jsonPath("$.content[0].titulo").value("Evento 1"));
 
-        verify(eventoService, times(1)).findAll(any(PageRequest.class));
+        verify(eventoService, times(1)).findAllResponses(any(PageRequest.class), eq(CountMode.EXACT));
+        verify(eventoMapper, never()).toResponseDTO(any(Evento.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos?count=none - Should return slice without total")
+    void testGetAllEventosWithoutCount() throws Exception {
+        // Given
+        EventoResponseDTO dto1 = EventoResponseDTO.builder().id(1L).titulo("Evento 1").build();
+        when(eventoService.findAllResponses(any(PageRequest.class), eq(CountMode.NONE)))
+                .thenReturn(new SliceImpl<>(List.of(dto1), PageRequest.of(0, 10), true));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos")
+                        .param("count", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos?count=cached - Should use cached total mode")
+    void testGetAllEventosWithCachedCount() throws Exception {
+        // Given
+        EventoResponseDTO dto1 = EventoResponseDTO.builder().id(1L).titulo("Evento 1").build();
+        when(eventoService.findAllResponses(any(PageRequest.class), eq(CountMode.CACHED)))
+                .thenReturn(new PageImpl<>(List.of(dto1), PageRequest.of(0, 10), 42));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos")
+                        .param("count", "cached"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(42));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos?count - Should return 400 for unknown count mode")
+    void testGetAllEventosWithInvalidCount() throws Exception {
+        mockMvc.perform(get("/api/v1/eventos")
+                        .param("count", "sometimes"))
+                .andExpect(status().isBadRequest());
+
+        verify(eventoService, never()).findAllResponses(any(), any());
     }
 
     @Test
@@ -117,14 +181,98 @@ class EventosControllerTest {
         evento.setDescripcion("Descripcion");
         evento.setOrganizador(org);
 
-        when(eventoService.findById(id)).thenReturn(evento);
-        when(eventoMapper.toWithParticipantesDTO(evento)).thenReturn(any());
+        when(eventoService.findDetailById(id)).thenReturn(evento);
+        when(eventoMapper.toDetailVersionDTO(evento)).thenReturn(new EventoDetailVersionDTO(2L, 1L, 0L));
+        when(eventoMapper.toWithParticipantesDTO(evento))
+                .thenReturn(EventoWithParticipantesDTO.builder().id(id).titulo("Test Evento").build());
 
         // When & Then
         mockMvc.perform(get("/api/v1/eventos/{id}", id))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2-1-0\""))
+                .andExpect(jsonPath("$.titulo").value("Test Evento"));
+
+        verify(eventoDetailCache).get(eq(id), any());
 
-        verify(eventoService, times(1)).findById(id);
+        verify(eventoService, times(1)).findDetailById(id);
+        verify(eventoService, never()).findDetailVersion(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/{id} - Should return 304 when If-None-Match matches the version")
+    void testGetEventoByIdNotModified() throws Exception {
+        // Given
+        Long id = 1L;
+        when(eventoService.findDetailVersion(id)).thenReturn(new EventoDetailVersionDTO(2L, 1L, 0L));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos/{id}", id)
+                        .header("If-None-Match", "\"2-1-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2-1-0\""))
+                .andExpect(content().string(""));
+
+        verify(eventoService, never()).findDetailById(any());
+        verifyNoInteractions(eventoMapper);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/{id} - Should answer If-None-Match from the cached detail without querying")
+    void testGetEventoByIdNotModifiedFromDetailCache() throws Exception {
+        // Given
+        Long id = 1L;
+        when(eventoDetailCache.peek(id)).thenReturn(Optional.of(new EventoDetailCache.Detail(
+                "{\"id\":1}".getBytes(StandardCharsets.UTF_8), "2-1-0")));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos/{id}", id)
+                        .header("If-None-Match", "\"2-1-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2-1-0\""));
+
+        verifyNoInteractions(eventoService);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/{id} - Should return the body when If-None-Match is stale")
+    void testGetEventoByIdWithStaleETag() throws Exception {
+        // Given
+        Long id = 1L;
+        Evento evento = new Evento();
+        evento.setId(id);
+        EventoDetailVersionDTO version = new EventoDetailVersionDTO(3L, 1L, 0L);
+        EventoWithParticipantesDTO dto = EventoWithParticipantesDTO.builder().id(id).titulo("Test Evento").build();
+
+        when(eventoService.findDetailVersion(id)).thenReturn(version);
+        when(eventoService.findDetailById(id)).thenReturn(evento);
+        when(eventoMapper.toDetailVersionDTO(evento)).thenReturn(version);
+        when(eventoMapper.toWithParticipantesDTO(evento)).thenReturn(dto);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos/{id}", id)
+                        .header("If-None-Match", "\"2-1-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3-1-0\""))
+                .andExpect(jsonPath("$.titulo").value("Test Evento"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/{id} - Should serve the shared serialized detail without loading it again")
+    void testGetEventoByIdFromDetailCache() throws Exception {
+        // Given
+        Long id = 1L;
+        doReturn(new EventoDetailCache.Detail(
+                "{\"id\":1,\"titulo\":\"Evento en caché\"}".getBytes(StandardCharsets.UTF_8), "2-1-0"))
+                .when(eventoDetailCache).get(eq(id), any());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"2-1-0\""))
+                .andExpect(jsonPath("$.titulo").value("Evento en caché"));
+
+        verifyNoInteractions(eventoService);
     }
 
     @Test
@@ -132,7 +280,7 @@ class EventosControllerTest {
     void testGetEventoByIdNotFound() throws Exception {
         // Given
         Long id = 999L;
-        when(eventoService.findById(id))
+        when(eventoService.findDetailById(id))
                 .thenThrow(new ResourceNotFoundException("Evento", "id", id));
 
         // When & Then
@@ -140,7 +288,7 @@ class EventosControllerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").value("Evento no encontrado con id: '999'"));
 
-        verify(eventoService, times(1)).findById(id);
+        verify(eventoService, times(1)).findDetailById(id);
     }
 
     @Test
@@ -251,7 +399,7 @@ class EventosControllerTest {
 
         when(organizadorService.findById(1L)).thenReturn(organizador);
         when(eventoMapper.toEntity(any(EventoRequestDTO.class), any(Organizador.class))).thenReturn(evento);
-        when(eventoService.update(eq(id), any(Evento.class))).thenReturn(updatedEvento);
+        when(eventoService.update(eq(id), any(Evento.class), isNull())).thenReturn(updatedEvento);
         when(eventoMapper.toResponseDTO(updatedEvento)).thenReturn(responseDTO);
 
         // When & Then
@@ -262,7 +410,7 @@ class EventosControllerTest {
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.titulo").value("Updated Evento"));
 
-        verify(eventoService, times(1)).update(eq(id), any(Evento.class));
+        verify(eventoService, times(1)).update(eq(id), any(Evento.class), isNull());
     }
 
     @Test
@@ -270,13 +418,57 @@ class EventosControllerTest {
     void testDeleteEvento() throws Exception {
         // Given
         Long id = 1L;
-        doNothing().when(eventoService).deleteById(id);
+        doNothing().when(eventoService).deleteById(id, null);
 
         // When & Then
         mockMvc.perform(delete("/api/v1/eventos/{id}", id))
                 .andExpect(status().isNoContent());
 
-        verify(eventoService, times(1)).deleteById(id);
+        verify(eventoService, times(1)).deleteById(id, null);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/eventos/{id} - Should pass the version of a detail ETag sent in If-Match")
+    void testDeleteEventoIfMatchDetailETag() throws Exception {
+        // When & Then
+        mockMvc.perform(delete("/api/v1/eventos/{id}", 1L).header("If-Match", "\"3-0-2\""))
+                .andExpect(status().isNoContent());
+
+        verify(eventoService, times(1)).deleteById(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/eventos/{id} - Should answer 412 to an If-Match that is not one of our ETags")
+    void testDeleteEventoIfMatchInvalid() throws Exception {
+        // When & Then
+        mockMvc.perform(delete("/api/v1/eventos/{id}", 1L).header("If-Match", "W/\"3\""))
+                .andExpect(status().isPreconditionFailed());
+
+        verifyNoInteractions(eventoService);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/eventos/{id} - Should answer 409 when a concurrent write wins without If-Match")
+    void testDeleteEventoConcurrentWriteConflict() throws Exception {
+        // Given
+        doThrow(new ObjectOptimisticLockingFailureException(Evento.class, 1L))
+                .when(eventoService).deleteById(1L, null);
+
+        // When & Then
+        mockMvc.perform(delete("/api/v1/eventos/{id}", 1L))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/eventos/{id} - Should answer 412 when a concurrent write wins with If-Match")
+    void testDeleteEventoConcurrentWritePreconditionFailed() throws Exception {
+        // Given
+        doThrow(new ObjectOptimisticLockingFailureException(Evento.class, 1L))
+                .when(eventoService).deleteById(1L, 2L);
+
+        // When & Then
+        mockMvc.perform(delete("/api/v1/eventos/{id}", 1L).header("If-Match", "\"2\""))
+                .andExpect(status().isPreconditionFailed());
     }
 
     @Test
@@ -284,14 +476,6 @@ class EventosControllerTest {
     void testSearchByTitulo() throws Exception {
         // Given
         String titulo = "Java";
-        Organizador org = new Organizador();
-        org.setId(1L);
-
-        Evento evento1 = new Evento();
-        evento1.setId(1L);
-        evento1.setTitulo("Java Conference");
-        evento1.setOrganizador(org);
-
         OrganizadorResponseDTO orgDTO = OrganizadorResponseDTO.builder()
                 .id(1L)
                 .build();
@@ -302,8 +486,7 @@ class EventosControllerTest {
                 .organizador(orgDTO)
                 .build();
 
-        when(eventoService.searchByTitulo(titulo)).thenReturn(Arrays.asList(evento1));
-        when(eventoMapper.toResponseDTO(evento1)).thenReturn(dto1);
+        when(eventoService.searchByTitulo(titulo, 20)).thenReturn(Arrays.asList(dto1));
 
         // When & Then
         mockMvc.perform(get("/api/v1/eventos/search")
@@ -312,7 +495,35 @@ class EventosControllerTest {
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].titulo").value("Java Conference"));
 
-        verify(eventoService, times(1)).searchByTitulo(titulo);
+        verify(eventoService, times(1)).searchByTitulo(titulo, 20);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/search - Should pass the requested limit")
+    void testSearchByTituloWithLimit() throws Exception {
+        // Given
+        when(eventoService.searchByTitulo("Java", 5)).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos/search")
+                        .param("titulo", "Java")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        verify(eventoService, times(1)).searchByTitulo("Java", 5);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/search - Should reject a limit above the maximum")
+    void testSearchByTituloWithInvalidLimit() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos/search")
+                        .param("titulo", "Java")
+                        .param("limit", "500"))
+                .andExpect(status().isBadRequest());
+
+        verify(eventoService, never()).searchByTitulo(any(), anyInt());
     }
 
     @Test
@@ -323,4 +534,298 @@ class EventosControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("echo"));
     }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos?limit - Should return cursor page with next cursor")
+    void testGetEventosByCursor() throws Exception {
+        // Given
+        EventoResponseDTO dto1 = EventoResponseDTO.builder().id(11L).titulo("Evento 11").build();
+        EventoResponseDTO dto2 = EventoResponseDTO.builder().id(12L).titulo("Evento 12").build();
+        when(eventoService.findResponsesAfter(10L, 2))
+                .thenReturn(new SliceImpl<>(List.of(dto1, dto2), Pageable.ofSize(2), true));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos")
+                        .param("after", KeysetPagination.encode(10L))
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(KeysetPagination.encode(12L)))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(eventoService, never()).findAllResponses(any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos?limit - Should start from the beginning without cursor")
+    void testGetEventosByCursorFirstPage() throws Exception {
+        // Given
+        EventoResponseDTO dto1 = EventoResponseDTO.builder().id(1L).titulo("Evento 1").build();
+        when(eventoService.findResponsesAfter(0L, 10))
+                .thenReturn(new SliceImpl<>(List.of(dto1), Pageable.ofSize(10), false));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos?limit - Should return 400 for invalid cursor or limit")
+    void testGetEventosByCursorInvalid() throws Exception {
+        mockMvc.perform(get("/api/v1/eventos")
+                        .param("after", "%%%")
+                        .param("limit", "10"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("El cursor de paginación no es válido"));
+
+        mockMvc.perform(get("/api/v1/eventos")
+                        .param("limit", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(eventoService, never()).findResponsesAfter(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos?limit&from&to - Should seek eventos by (fecha, id) inside the range")
+    void testGetEventosByFecha() throws Exception {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2030, 3, 4, 0, 0);
+        LocalDateTime to = from.plusDays(7);
+        LocalDateTime fecha = from.plusDays(1);
+        EventoResponseDTO dto = EventoResponseDTO.builder().id(12L).titulo("Evento 12").fecha(fecha).build();
+        when(eventoService.findResponsesByFecha(from, to, "Madrid", from, 10L, 1))
+                .thenReturn(new SliceImpl<>(List.of(dto), Pageable.ofSize(1), true));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos")
+                        .param("from", "2030-03-04T00:00:00")
+                        .param("to", "2030-03-11T00:00:00")
+                        .param("ubicacion", "Madrid")
+                        .param("after", KeysetPagination.encode(from, 10L))
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(12))
+                .andExpect(jsonPath("$.nextCursor").value(KeysetPagination.encode(fecha, 12L)));
+
+        verify(eventoService, never()).findResponsesAfter(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos?limit&from - Should reject an id cursor in a date-ordered listing")
+    void testGetEventosByFechaInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/eventos")
+                        .param("from", "2030-03-04T00:00:00")
+                        .param("after", KeysetPagination.encode(10L))
+                        .param("limit", "10"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("El cursor de paginación no es válido"));
+
+        verifyNoInteractions(eventoService);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/upcoming - Should return the next eventos")
+    void testGetUpcomingEventos() throws Exception {
+        // Given
+        EventoResponseDTO dto = EventoResponseDTO.builder().id(3L).titulo("Próximo").build();
+        when(eventoService.findUpcoming(5)).thenReturn(List.of(dto));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos/upcoming")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].titulo").value("Próximo"));
+
+        mockMvc.perform(get("/api/v1/eventos/upcoming")
+                        .param("limit", "500"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/{id}/participantes?limit - Should seek participantes of evento")
+    void testGetParticipantesByEventoByCursor() throws Exception {
+        // Given
+        ParticipanteResponseDTO dto = ParticipanteResponseDTO.builder().id(501L).nombre("Part").build();
+        when(participanteService.findResponsesByEventoIdAfter(1L, 500L, 1))
+                .thenReturn(new SliceImpl<>(List.of(dto), Pageable.ofSize(1), true));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos/{id}/participantes", 1L)
+                        .param("after", KeysetPagination.encode(500L))
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(501))
+                .andExpect(jsonPath("$.nextCursor").value(KeysetPagination.encode(501L)));
+
+        verify(participanteService, never()).findResponsesByEventoId(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/eventos/{id}/participantes:batch - Should register a batch of participantes")
+    void testAddParticipantesBatch() throws Exception {
+        // Given
+        Evento evento = new Evento();
+        evento.setId(1L);
+        List<ParticipanteRequestDTO> requestDTOs = List.of(
+                ParticipanteRequestDTO.builder().nombre("Ana García").email("ana@test.com").build(),
+                ParticipanteRequestDTO.builder().nombre("Luis Gil").email("luis@test.com").build());
+        Participante participante = new Participante();
+
+        when(eventoService.findById(1L)).thenReturn(evento);
+        when(participanteMapper.toEntity(any(ParticipanteRequestDTO.class), eq(evento))).thenReturn(participante);
+        when(participanteService.saveAll(eq(1L), any())).thenReturn(List.of(participante, participante));
+        when(participanteMapper.toResponseDTO(participante))
+                .thenReturn(ParticipanteResponseDTO.builder().id(7L).email("ana@test.com").build());
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/eventos/{id}/participantes:batch", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDTOs)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(7));
+
+        verify(participanteService, times(1)).saveAll(eq(1L), argThat(list -> list.size() == 2));
+        verify(participanteService, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/eventos/{id}/participantes:batch - Should report every invalid row")
+    void testAddParticipantesBatchValidationErrors() throws Exception {
+        // Given
+        List<ParticipanteRequestDTO> requestDTOs = List.of(
+                ParticipanteRequestDTO.builder().nombre("Ana García").email("ana@test.com").build(),
+                ParticipanteRequestDTO.builder().nombre("Luis Gil").email("no-es-un-email").build(),
+                ParticipanteRequestDTO.builder().email("eva@test.com").build());
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/eventos/{id}/participantes:batch", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDTOs)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors", hasSize(2)))
+                .andExpect(jsonPath("$.validationErrors[?(@.field == '[1].email')].rejectedValue")
+                        .value("no-es-un-email"))
+                .andExpect(jsonPath("$.validationErrors[?(@.field == '[2].nombre')]").exists());
+
+        verifyNoInteractions(participanteService);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/eventos/{id}/participantes:batch - Should reject an empty batch")
+    void testAddParticipantesBatchEmpty() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/v1/eventos/{id}/participantes:batch", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(participanteService);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/{id}/participantes/export - Should stream the roster as CSV")
+    void testExportParticipantesCsv() throws Exception {
+        // Given
+        Evento evento = new Evento();
+        evento.setId(1L);
+        Participante participante = new Participante();
+
+        when(eventoService.findById(1L)).thenReturn(evento);
+        when(participanteMapper.toResponseDTO(participante)).thenReturn(ParticipanteResponseDTO.builder()
+                .id(7L).nombre("Ana García").email("ana@test.com").build());
+        doAnswer(invocation -> {
+            Consumer<Participante> consumer = invocation.getArgument(1);
+            consumer.accept(participante);
+            return null;
+        }).when(participanteService).exportByEventoId(eq(1L), any());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/eventos/{id}/participantes/export", 1L)
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"evento-1-participantes.csv\""))
+                .andExpect(content().string("id,nombre,email,telefono\n7,Ana García,ana@test.com,\n"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/{id}/participantes/export - Should return 404 before streaming")
+    void testExportParticipantesEventoNotFound() throws Exception {
+        // Given
+        when(eventoService.findById(999L)).thenThrow(new ResourceNotFoundException("Evento", "id", 999L));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos/{id}/participantes/export", 999L))
+                .andExpect(status().isNotFound());
+
+        verifyNoInteractions(participanteService);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/eventos/{id}/participantes/export - Should reject an unknown format")
+    void testExportParticipantesInvalidFormat() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos/{id}/participantes/export", 1L)
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/eventos/{id}/participantes/import - Should return the import report")
+    void testImportParticipantes() throws Exception {
+        // Given
+        Evento evento = new Evento();
+        evento.setId(1L);
+        when(eventoService.findById(1L)).thenReturn(evento);
+        when(importService.importParticipantes(eq(evento), any()))
+                .thenReturn(ImportReportDTO.builder().processed(2).imported(2).build());
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/eventos/{id}/participantes/import", 1L)
+                        .contentType("text/csv")
+                        .content("nombre,email\nAna García,ana@test.com\nLuis Gil,luis@test.com\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(2))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.errors", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/eventos/{id} - Should apply a merge patch without resolving the organizador")
+    void testPatchEvento() throws Exception {
+        // Given
+        Evento patched = new Evento();
+        patched.setId(1L);
+        patched.setTitulo("Titulo parcheado");
+
+        EventoResponseDTO responseDTO = EventoResponseDTO.builder()
+                .id(1L)
+                .titulo("Titulo parcheado")
+                .build();
+
+        when(eventoService.patch(eq(1L), any(JsonNode.class), isNull())).thenReturn(patched);
+        when(eventoMapper.toResponseDTO(patched)).thenReturn(responseDTO);
+
+        // When & Then
+        mockMvc.perform(patch("/api/v1/eventos/{id}", 1L)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"titulo\":\"Titulo parcheado\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.titulo").value("Titulo parcheado"));
+
+        verify(organizadorService, never()).findById(any());
+    }
 }
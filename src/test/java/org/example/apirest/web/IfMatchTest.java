@@ -0,0 +1,152 @@
+package org.example.apirest.web;
+
+import org.example.apirest.entity.Evento;
+import org.example.apirest.entity.Organizador;
+import org.example.apirest.entity.Participante;
+import org.example.apirest.repository.EventoRepository;
+import org.example.apirest.repository.OrganizadorRepository;
+import org.example.apirest.repository.ParticipanteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("If-Match Tests")
+class IfMatchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrganizadorRepository organizadorRepository;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private ParticipanteRepository participanteRepository;
+
+    private Organizador organizador;
+    private Evento evento;
+    private Participante participante;
+
+    @BeforeEach
+    void setUp() {
+        organizador = new Organizador();
+        organizador.setNombre("Test Organizador");
+        organizador.setEmail("org@test.com");
+        organizadorRepository.save(organizador);
+
+        evento = new Evento();
+        evento.setTitulo("Evento original");
+        evento.setDescripcion("Descripcion del evento");
+        evento.setOrganizador(organizador);
+        eventoRepository.save(evento);
+
+        participante = new Participante();
+        participante.setNombre("Participante");
+        participante.setEmail("part@test.com");
+        participante.setEvento(evento);
+        participanteRepository.save(participante);
+    }
+
+    @AfterEach
+    void tearDown() {
+        participanteRepository.deleteAll();
+        eventoRepository.deleteAll();
+        organizadorRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/organizadores/{id} - Should reject a second writer holding the old ETag")
+    void testPutOrganizadorWithStaleETag() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/v1/organizadores/{id}", organizador.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When
+        mockMvc.perform(put("/api/v1/organizadores/{id}", organizador.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nombre\":\"Primer cambio\",\"email\":\"org@test.com\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+        mockMvc.perform(put("/api/v1/organizadores/{id}", organizador.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nombre\":\"Segundo cambio\",\"email\":\"org@test.com\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        // Then
+        assertThat(organizadorRepository.findById(organizador.getId()).orElseThrow().getNombre())
+                .isEqualTo("Primer cambio");
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/eventos/{id} - Should accept the detail ETag returned by GET")
+    void testPatchEventoWithDetailETag() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/v1/eventos/{id}", evento.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(patch("/api/v1/eventos/{id}", evento.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"titulo\":\"Evento parcheado\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+        mockMvc.perform(patch("/api/v1/eventos/{id}", evento.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"titulo\":\"Cambio perdido\"}"))
+                .andExpect(status().isPreconditionFailed());
+        assertThat(eventoRepository.findById(evento.getId()).orElseThrow().getTitulo())
+                .isEqualTo("Evento parcheado");
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/eventos/{id} - Should keep the evento when If-Match is stale")
+    void testDeleteEventoWithStaleETag() throws Exception {
+        // When
+        mockMvc.perform(delete("/api/v1/eventos/{id}", evento.getId()).header(HttpHeaders.IF_MATCH, "\"7\""))
+                .andExpect(status().isPreconditionFailed());
+
+        // Then
+        assertThat(eventoRepository.existsById(evento.getId())).isTrue();
+        assertThat(participanteRepository.existsById(participante.getId())).isTrue();
+        mockMvc.perform(delete("/api/v1/eventos/{id}", evento.getId()).header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isNoContent());
+        assertThat(eventoRepository.existsById(evento.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/participantes/{id} - Should honour If-Match")
+    void testDeleteParticipanteWithStaleETag() throws Exception {
+        // When & Then
+        mockMvc.perform(delete("/api/v1/participantes/{id}", participante.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"3-0\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/v1/participantes/{id}", participante.getId())
+                        .header(HttpHeaders.IF_MATCH, "*"))
+                .andExpect(status().isNoContent());
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.apirest.web;
+
+import org.example.apirest.entity.Evento;
+import org.example.apirest.entity.Organizador;
+import org.example.apirest.entity.Participante;
+import org.example.apirest.repository.EventoRepository;
+import org.example.apirest.repository.OrganizadorRepository;
+import org.example.apirest.repository.ParticipanteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.apirest.jdbc.StatementRecorder.record;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Merge Patch Statements Tests")
+class MergePatchStatementsTest {
+
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private OrganizadorRepository organizadorRepository;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private ParticipanteRepository participanteRepository;
+
+    private Organizador organizador;
+    private Evento evento;
+    private Participante participante;
+
+    @BeforeEach
+    void setUp() {
+        organizador = new Organizador();
+        organizador.setNombre("Test Organizador");
+        organizador.setEmail("org@test.com");
+        organizador.setTelefono("600000000");
+        organizadorRepository.save(organizador);
+
+        evento = new Evento();
+        evento.setTitulo("Evento original");
+        evento.setDescripcion("Descripcion del evento");
+        evento.setUbicacion("Madrid");
+        evento.setOrganizador(organizador);
+        eventoRepository.save(evento);
+
+        participante = new Participante();
+        participante.setNombre("Participante original");
+        participante.setEmail("part@test.com");
+        participante.setEvento(evento);
+        participanteRepository.save(participante);
+    }
+
+    @AfterEach
+    void tearDown() {
+        participanteRepository.deleteAll();
+        eventoRepository.deleteAll();
+        organizadorRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/eventos/{id} - Should update only the patched column without loading the organizador by id")
+    void testPatchEventoUpdatesOnlyTitulo() {
+        // When
+        List<String> statements = record(dataSource, () -> mockMvc.perform(
+                        patch("/api/v1/eventos/{id}", evento.getId())
+                                .contentType(MERGE_PATCH_JSON)
+                                .content("{\"titulo\":\"Evento parcheado\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.titulo").value("Evento parcheado"))
+                .andExpect(jsonPath("$.ubicacion").value("Madrid")));
+
+        // Then
+        assertThat(updates(statements))
+                .containsExactly("update eventos set titulo=?,version=? where id=? and version=?");
+        assertThat(statements).noneMatch(sql -> sql.contains("count("));
+        assertThat(eventoRepository.findById(evento.getId()).orElseThrow().getDescripcion())
+                .isEqualTo("Descripcion del evento");
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/participantes/{id} - Should update only the patched column without reading the evento")
+    void testPatchParticipanteUpdatesOnlyNombre() {
+        // When
+        List<String> statements = record(dataSource, () -> mockMvc.perform(
+                        patch("/api/v1/participantes/{id}", participante.getId())
+                                .contentType(MERGE_PATCH_JSON)
+                                .content("{\"nombre\":\"Participante parcheado\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("part@test.com")));
+
+        // Then
+        assertThat(updates(statements))
+                .containsExactly("update participantes set nombre=?,version=? where id=? and version=?",
+                        "update eventos set roster_version = roster_version + 1 where id = ?");
+        assertThat(statements).noneMatch(sql -> sql.contains("from eventos"));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/organizadores/{id} - Should clear a field with null and write only that column")
+    void testPatchOrganizadorClearsTelefono() {
+        // When
+        List<String> statements = record(dataSource, () -> mockMvc.perform(
+                        patch("/api/v1/organizadores/{id}", organizador.getId())
+                                .contentType(MERGE_PATCH_JSON)
+                                .content("{\"telefono\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nombre").value("Test Organizador")));
+
+        // Then
+        assertThat(updates(statements))
+                .containsExactly("update organizadores set telefono=?,version=? where id=? and version=?");
+        assertThat(organizadorRepository.findById(organizador.getId()).orElseThrow().getTelefono()).isNull();
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/eventos/{id} - Should reject a patch that breaks validation without writing")
+    void testPatchEventoInvalidWritesNothing() {
+        // When
+        List<String> statements = record(dataSource, () -> mockMvc.perform(
+                        patch("/api/v1/eventos/{id}", evento.getId())
+                                .contentType(MERGE_PATCH_JSON)
+                                .content("{\"titulo\":\"\"}"))
+                .andExpect(status().isBadRequest()));
+
+        // Then
+        assertThat(updates(statements)).isEmpty();
+    }
+
+    private static List<String> updates(List<String> statements) {
+        return statements.stream().filter(sql -> sql.startsWith("update")).toList();
+    }
+}
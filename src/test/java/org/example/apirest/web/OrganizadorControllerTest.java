@@ -1,13 +1,20 @@
 package org.example.apirest.web;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.apirest.dto.bulk.ImportErrorDTO;
+import org.example.apirest.dto.bulk.ImportReportDTO;
+import org.example.apirest.dto.evento.EventoSummaryDTO;
+import org.example.apirest.dto.organizador.OrganizadorDashboardDTO;
 import org.example.apirest.dto.organizador.OrganizadorRequestDTO;
 import org.example.apirest.dto.organizador.OrganizadorResponseDTO;
+import org.example.apirest.dto.pagination.CountMode;
 import org.example.apirest.entity.Organizador;
 import org.example.apirest.exception.DuplicateResourceException;
 import org.example.apirest.exception.ResourceNotFoundException;
 import org.example.apirest.mapper.EventoMapper;
 import org.example.apirest.mapper.OrganizadorMapper;
+import org.example.apirest.service.ImportService;
 import org.example.apirest.service.OrganizadorService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,9 +24,12 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -46,6 +56,9 @@ class OrganizadorControllerTest {
     @MockBean
     private OrganizadorMapper organizadorMapper;
 
+    @MockBean
+    private ImportService importService;
+
     @MockBean
     private EventoMapper eventoMapper;
 
@@ -53,22 +66,16 @@ class OrganizadorControllerTest {
     @DisplayName("GET /api/v1/organizadores - Should return page of organizadores")
     void testGetAllOrganizadores() throws Exception {
         // Given
-        Organizador org1 = new Organizador();
-        org1.setId(1L);
-        org1.setNombre("Org 1");
-        org1.setEmail("org1@test.com");
-
         OrganizadorResponseDTO dto1 = OrganizadorResponseDTO.builder()
                 .id(1L)
                 .nombre("Org 1")
                 .email("org1@test.com")
                 .build();
 
-        List<Organizador> organizadores = Arrays.asList(org1);
-        Page<Organizador> page = new PageImpl<>(organizadores, PageRequest.of(0, 10), 1);
+        List<OrganizadorResponseDTO> organizadores = Arrays.asList(dto1);
+        Page<OrganizadorResponseDTO> page = new PageImpl<>(organizadores, PageRequest.of(0, 10), 1);
 
-        when(organizadorService.findAll(any(PageRequest.class))).thenReturn(page);
-        when(organizadorMapper.toResponseDTO(org1)).thenReturn(dto1);
+        when(organizadorService.findAllResponses(any(PageRequest.class), eq(CountMode.EXACT))).thenReturn(page);
 
         // When & Then
         mockMvc.perform(get("/api/v1/organizadores")
@@ -79,7 +86,8 @@ class OrganizadorControllerTest {
                 .andExpect(jsonPath("$.content[0].id").value(1))
                 .andExpect(jsonPath("$.content[0].nombre").value("Org 1"));
 
-        verify(organizadorService, times(1)).findAll(any(PageRequest.class));
+        verify(organizadorService, times(1)).findAllResponses(any(PageRequest.class), eq(CountMode.EXACT));
+        verify(organizadorMapper, never()).toResponseDTO(any(Organizador.class));
     }
 
     @Test
@@ -91,6 +99,7 @@ class OrganizadorControllerTest {
         organizador.setId(id);
         organizador.setNombre("Test Org");
         organizador.setEmail("test@test.com");
+        organizador.setVersion(4L);
 
         OrganizadorResponseDTO dto = OrganizadorResponseDTO.builder()
                 .id(id)
@@ -104,6 +113,7 @@ class OrganizadorControllerTest {
         // When & Then
         mockMvc.perform(get("/api/v1/organizadores/{id}", id))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.nombre").value("Test Org"))
                 .andExpect(jsonPath("$.email").value("test@test.com"));
@@ -111,6 +121,22 @@ class OrganizadorControllerTest {
         verify(organizadorService, times(1)).findById(id);
     }
 
+    @Test
+    @DisplayName("GET /api/v1/organizadores/{id} - Should return 304 when If-None-Match matches the version")
+    void testGetOrganizadorByIdNotModified() throws Exception {
+        // Given
+        Long id = 1L;
+        when(organizadorService.findVersion(id)).thenReturn(4L);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/organizadores/{id}", id)
+                        .header("If-None-Match", "\"3\", \"4\""))
+                .andExpect(status().isNotModified());
+
+        verify(organizadorService, never()).findById(any());
+        verifyNoInteractions(organizadorMapper);
+    }
+
     @Test
     @DisplayName("GET /api/v1/organizadores/{id} - Should return 404 when not found")
     void testGetOrganizadorByIdNotFound() throws Exception {
@@ -244,7 +270,7 @@ class OrganizadorControllerTest {
                 .build();
 
         when(organizadorMapper.toEntity(any(OrganizadorRequestDTO.class))).thenReturn(organizador);
-        when(organizadorService.update(eq(id), any(Organizador.class))).thenReturn(updatedOrganizador);
+        when(organizadorService.update(eq(id), any(Organizador.class), isNull())).thenReturn(updatedOrganizador);
         when(organizadorMapper.toResponseDTO(updatedOrganizador)).thenReturn(responseDTO);
 
         // When & Then
@@ -255,7 +281,7 @@ class OrganizadorControllerTest {
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.nombre").value("Updated Org"));
 
-        verify(organizadorService, times(1)).update(eq(id), any(Organizador.class));
+        verify(organizadorService, times(1)).update(eq(id), any(Organizador.class), isNull());
     }
 
     @Test
@@ -263,13 +289,13 @@ class OrganizadorControllerTest {
     void testDeleteOrganizador() throws Exception {
         // Given
         Long id = 1L;
-        doNothing().when(organizadorService).deleteById(id);
+        doNothing().when(organizadorService).deleteById(id, null);
 
         // When & Then
         mockMvc.perform(delete("/api/v1/organizadores/{id}", id))
                 .andExpect(status().isNoContent());
 
-        verify(organizadorService, times(1)).deleteById(id);
+        verify(organizadorService, times(1)).deleteById(id, null);
     }
 
     @Test
@@ -300,4 +326,141 @@ class OrganizadorControllerTest {
 
         verify(organizadorService, times(1)).searchByNombre(nombre);
     }
+
+    @Test
+    @DisplayName("GET /api/v1/organizadores?limit - Should return cursor page")
+    void testGetOrganizadoresByCursor() throws Exception {
+        // Given
+        OrganizadorResponseDTO dto1 = OrganizadorResponseDTO.builder().id(3L).nombre("Org 3").build();
+        when(organizadorService.findResponsesAfter(2L, 1))
+                .thenReturn(new SliceImpl<>(List.of(dto1), Pageable.ofSize(1), true));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/organizadores")
+                        .param("after", KeysetPagination.encode(2L))
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].nombre").value("Org 3"))
+                .andExpect(jsonPath("$.nextCursor").value(KeysetPagination.encode(3L)));
+
+        verify(organizadorService, never()).findAllResponses(any(), any());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/organizadores/import - Should return the import report with row errors")
+    void testImportOrganizadores() throws Exception {
+        // Given
+        when(importService.importOrganizadores(any())).thenReturn(ImportReportDTO.builder()
+                .processed(2)
+                .imported(1)
+                .failed(1)
+                .errors(List.of(ImportErrorDTO.builder().line(3).field("email").message("El email debe ser valido").build()))
+                .build());
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/organizadores/import")
+                        .param("format", "ndjson")
+                        .contentType("application/x-ndjson")
+                        .content("{\"nombre\":\"Ana\",\"email\":\"ana@test.com\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].field").value("email"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/organizadores/import - Should reject an unknown format")
+    void testImportOrganizadoresInvalidFormat() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/v1/organizadores/import")
+                        .param("format", "xlsx")
+                        .content("x"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(importService);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/organizadores/{id}/dashboard - Should return totals and eventos")
+    void testGetDashboard() throws Exception {
+        // Given
+        OrganizadorDashboardDTO dashboard = OrganizadorDashboardDTO.builder()
+                .id(1L)
+                .nombre("Org 1")
+                .totalEventos(1)
+                .totalParticipantes(25)
+                .proximoEvento(LocalDateTime.of(2025, 11, 20, 14, 0))
+                .eventos(List.of(EventoSummaryDTO.builder().id(10L).titulo("Evento").numParticipantes(25).build()))
+                .build();
+        when(organizadorService.findDashboard(1L)).thenReturn(dashboard);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/organizadores/{id}/dashboard", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalEventos").value(1))
+                .andExpect(jsonPath("$.totalParticipantes").value(25))
+                .andExpect(jsonPath("$.proximoEvento").value("2025-11-20T14:00:00"))
+                .andExpect(jsonPath("$.eventos[0].numParticipantes").value(25))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/organizadores/{id}/dashboard?limit - Should page eventos with a cursor")
+    void testGetDashboardByCursor() throws Exception {
+        // Given
+        OrganizadorDashboardDTO dashboard = OrganizadorDashboardDTO.builder()
+                .id(1L)
+                .totalEventos(3)
+                .eventos(List.of(EventoSummaryDTO.builder().id(11L).titulo("Evento 11").build()))
+                .hasNext(true)
+                .build();
+        when(organizadorService.findDashboard(1L, 10L, 1)).thenReturn(dashboard);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/organizadores/{id}/dashboard", 1L)
+                        .param("after", KeysetPagination.encode(10L))
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.eventos", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(KeysetPagination.encode(11L)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/organizadores/{id}/dashboard - Should return 404 for unknown organizador")
+    void testGetDashboardNotFound() throws Exception {
+        // Given
+        when(organizadorService.findDashboard(999L))
+                .thenThrow(new ResourceNotFoundException("Organizador", "id", 999L));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/organizadores/{id}/dashboard", 999L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/organizadores/{id} - Should apply a merge patch")
+    void testPatchOrganizador() throws Exception {
+        // Given
+        Organizador patched = new Organizador();
+        patched.setId(1L);
+        patched.setNombre("Patched Org");
+
+        OrganizadorResponseDTO responseDTO = OrganizadorResponseDTO.builder()
+                .id(1L)
+                .nombre("Patched Org")
+                .build();
+
+        when(organizadorService.patch(eq(1L), any(JsonNode.class), isNull())).thenReturn(patched);
+        when(organizadorMapper.toResponseDTO(patched)).thenReturn(responseDTO);
+
+        // When & Then
+        mockMvc.perform(patch("/api/v1/organizadores/{id}", 1L)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"nombre\":\"Patched Org\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nombre").value("Patched Org"));
+
+        verify(organizadorService, times(1)).patch(eq(1L), argThat(node -> node.size() == 1 && node.has("nombre")), isNull());
+    }
 }
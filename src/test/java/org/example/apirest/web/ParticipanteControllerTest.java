@@ -1,8 +1,12 @@
 package org.example.apirest.web;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.apirest.dto.pagination.CountMode;
+import org.example.apirest.dto.participante.ParticipanteDetailVersionDTO;
 import org.example.apirest.dto.participante.ParticipanteRequestDTO;
 import org.example.apirest.dto.participante.ParticipanteResponseDTO;
+import org.example.apirest.dto.search.SearchIndexStatsDTO;
 import org.example.apirest.entity.Evento;
 import org.example.apirest.entity.Participante;
 import org.example.apirest.exception.ResourceNotFoundException;
@@ -17,6 +21,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -53,22 +59,16 @@ class ParticipanteControllerTest {
     @DisplayName("GET /api/v1/participantes - Should return page of participantes")
     void testGetAllParticipantes() throws Exception {
         // Given
-        Participante p1 = new Participante();
-        p1.setId(1L);
-        p1.setNombre("Part 1");
-        p1.setEmail("p1@test.com");
-
         ParticipanteResponseDTO dto1 = ParticipanteResponseDTO.builder()
                 .id(1L)
                 .nombre("Part 1")
                 .email("p1@test.com")
                 .build();
 
-        List<Participante> participantes = Arrays.asList(p1);
-        Page<Participante> page = new PageImpl<>(participantes, PageRequest.of(0, 10), 1);
+        List<ParticipanteResponseDTO> participantes = Arrays.asList(dto1);
+        Page<ParticipanteResponseDTO> page = new PageImpl<>(participantes, PageRequest.of(0, 10), 1);
 
-        when(participanteService.findAll(any(PageRequest.class))).thenReturn(page);
-        when(participanteMapper.toResponseDTO(p1)).thenReturn(dto1);
+        when(participanteService.findAllResponses(any(PageRequest.class), eq(CountMode.EXACT))).thenReturn(page);
 
         // When & Then
         mockMvc.perform(get("/api/v1/participantes")
@@ -79,7 +79,8 @@ class ParticipanteControllerTest {
                 .andExpect(jsonPath("$.content[0].id").value(1))
                 .andExpect(jsonPath("$.content[0].nombre").value("Part 1"));
 
-        verify(participanteService, times(1)).findAll(any(PageRequest.class));
+        verify(participanteService, times(1)).findAllResponses(any(PageRequest.class), eq(CountMode.EXACT));
+        verify(participanteMapper, never()).toResponseDTO(any(Participante.class));
     }
 
     @Test
@@ -92,14 +93,32 @@ class ParticipanteControllerTest {
         participante.setNombre("Test Part");
         participante.setEmail("test@test.com");
 
-        when(participanteService.findById(id)).thenReturn(participante);
+        when(participanteService.findDetailById(id)).thenReturn(participante);
+        when(participanteMapper.toDetailVersionDTO(participante)).thenReturn(new ParticipanteDetailVersionDTO(0L, 5L));
         when(participanteMapper.toWithEventoDTO(participante)).thenReturn(any());
 
         // When & Then
         mockMvc.perform(get("/api/v1/participantes/{id}", id))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0-5\""));
 
-        verify(participanteService, times(1)).findById(id);
+        verify(participanteService, times(1)).findDetailById(id);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/participantes/{id} - Should return 304 when If-None-Match matches the version")
+    void testGetParticipanteByIdNotModified() throws Exception {
+        // Given
+        Long id = 1L;
+        when(participanteService.findDetailVersion(id)).thenReturn(new ParticipanteDetailVersionDTO(0L, 5L));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/participantes/{id}", id)
+                        .header("If-None-Match", "\"0-5\""))
+                .andExpect(status().isNotModified());
+
+        verify(participanteService, never()).findDetailById(any());
+        verifyNoInteractions(participanteMapper);
     }
 
     @Test
@@ -107,7 +126,7 @@ class ParticipanteControllerTest {
     void testGetParticipanteByIdNotFound() throws Exception {
         // Given
         Long id = 999L;
-        when(participanteService.findById(id))
+        when(participanteService.findDetailById(id))
                 .thenThrow(new ResourceNotFoundException("Participante", "id", id));
 
         // When & Then
@@ -115,7 +134,7 @@ class ParticipanteControllerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").value("Participante no encontrado con id: '999'"));
 
-        verify(participanteService, times(1)).findById(id);
+        verify(participanteService, times(1)).findDetailById(id);
     }
 
     @Test
@@ -123,19 +142,13 @@ class ParticipanteControllerTest {
     void testSearchByEmail() throws Exception {
         // Given
         String email = "test";
-        Participante p1 = new Participante();
-        p1.setId(1L);
-        p1.setNombre("Test Part");
-        p1.setEmail("test@test.com");
-
         ParticipanteResponseDTO dto1 = ParticipanteResponseDTO.builder()
                 .id(1L)
                 .nombre("Test Part")
                 .email("test@test.com")
                 .build();
 
-        when(participanteService.searchByEmail(email)).thenReturn(Arrays.asList(p1));
-        when(participanteMapper.toResponseDTO(p1)).thenReturn(dto1);
+        when(participanteService.searchByEmail(email, 20)).thenReturn(Arrays.asList(dto1));
 
         // When & Then
         mockMvc.perform(get("/api/v1/participantes/search")
@@ -144,7 +157,27 @@ class ParticipanteControllerTest {
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].email").value("test@test.com"));
 
-        verify(participanteService, times(1)).searchByEmail(email);
+        verify(participanteService, times(1)).searchByEmail(email, 20);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/participantes/search/stats - Should return index memory stats")
+    void testGetSearchIndexStats() throws Exception {
+        // Given
+        SearchIndexStatsDTO stats = SearchIndexStatsDTO.builder()
+                .ready(true)
+                .documents(4)
+                .estimatedBytes(2000)
+                .bytesPerDocument(500)
+                .build();
+        when(participanteService.searchIndexStats()).thenReturn(stats);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/participantes/search/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ready").value(true))
+                .andExpect(jsonPath("$.documents").value(4))
+                .andExpect(jsonPath("$.bytesPerDocument").value(500));
     }
 
     @Test
@@ -179,7 +212,7 @@ class ParticipanteControllerTest {
 
         when(eventoService.findById(1L)).thenReturn(evento);
         when(participanteMapper.toEntity(any(ParticipanteRequestDTO.class), any(Evento.class))).thenReturn(participante);
-        when(participanteService.update(eq(id), any(Participante.class))).thenReturn(updatedParticipante);
+        when(participanteService.update(eq(id), any(Participante.class), isNull())).thenReturn(updatedParticipante);
         when(participanteMapper.toResponseDTO(updatedParticipante)).thenReturn(responseDTO);
 
         // When & Then
@@ -190,7 +223,7 @@ class ParticipanteControllerTest {
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.nombre").value("Updated Part"));
 
-        verify(participanteService, times(1)).update(eq(id), any(Participante.class));
+        verify(participanteService, times(1)).update(eq(id), any(Participante.class), isNull());
     }
 
     @Test
@@ -198,12 +231,56 @@ class ParticipanteControllerTest {
     void testDeleteParticipante() throws Exception {
         // Given
         Long id = 1L;
-        doNothing().when(participanteService).deleteById(id);
+        doNothing().when(participanteService).deleteById(id, null);
 
         // When & Then
         mockMvc.perform(delete("/api/v1/participantes/{id}", id))
                 .andExpect(status().isNoContent());
 
-        verify(participanteService, times(1)).deleteById(id);
+        verify(participanteService, times(1)).deleteById(id, null);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/participantes?limit - Should return last cursor page")
+    void testGetParticipantesByCursor() throws Exception {
+        // Given
+        ParticipanteResponseDTO dto1 = ParticipanteResponseDTO.builder().id(8L).nombre("Part 8").build();
+        when(participanteService.findResponsesAfter(7L, 5))
+                .thenReturn(new SliceImpl<>(List.of(dto1), Pageable.ofSize(5), false));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/participantes")
+                        .param("after", KeysetPagination.encode(7L))
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/participantes/{id} - Should apply a merge patch without resolving the evento")
+    void testPatchParticipante() throws Exception {
+        // Given
+        Participante patched = new Participante();
+        patched.setId(1L);
+        patched.setNombre("Patched");
+
+        ParticipanteResponseDTO responseDTO = ParticipanteResponseDTO.builder()
+                .id(1L)
+                .nombre("Patched")
+                .build();
+
+        when(participanteService.patch(eq(1L), any(JsonNode.class), isNull())).thenReturn(patched);
+        when(participanteMapper.toResponseDTO(patched)).thenReturn(responseDTO);
+
+        // When & Then
+        mockMvc.perform(patch("/api/v1/participantes/{id}", 1L)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"nombre\":\"Patched\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nombre").value("Patched"));
+
+        verify(eventoService, never()).findById(any());
     }
 }
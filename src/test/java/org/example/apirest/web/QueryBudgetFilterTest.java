@@ -0,0 +1,125 @@
+package org.example.apirest.web;
+
+import org.example.apirest.entity.Organizador;
+import org.example.apirest.repository.OrganizadorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.example.apirest.jdbc.QueryCountAssertions.assertThatQueryCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("QueryBudgetFilter Tests")
+class QueryBudgetFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrganizadorRepository organizadorRepository;
+
+    @AfterEach
+    void tearDown() {
+        organizadorRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should declare a query budget on every API endpoint")
+    void testEveryEndpointDeclaresBudget() {
+        // When
+        var endpointsWithoutBudget = handlerMapping.getHandlerMethods().values().stream()
+                .filter(handler -> handler.getBeanType().getPackageName().equals(getClass().getPackageName()))
+                .filter(handler -> !handler.hasMethodAnnotation(QueryBudget.class))
+                .map(HandlerMethod::getShortLogMessage)
+                .toList();
+
+        // Then
+        assertThat(endpointsWithoutBudget).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should expose the number of statements in the X-Query-Count header")
+    void testQueryCountHeader() throws Exception {
+        // Given
+        Organizador organizador = new Organizador();
+        organizador.setNombre("Test Organizador");
+        organizador.setEmail("org@test.com");
+        organizadorRepository.save(organizador);
+
+        // When & Then
+        assertThatQueryCount(() -> mockMvc.perform(get("/api/v1/organizadores/{id}/eventos", organizador.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryBudgetFilter.QUERY_COUNT_HEADER, "2")))
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should fail the request when it exceeds its budget and failing is enabled")
+    void testBudgetExceededFails() throws Exception {
+        // Given
+        QueryBudgetFilter filter = new QueryBudgetFilter(false, true);
+        MockHttpServletRequest request = requestFor("singleQuery");
+
+        // When & Then
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            jdbcTemplate.queryForObject("select 1", Integer.class);
+            jdbcTemplate.queryForObject("select 1", Integer.class);
+        }))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("2 consultas con un presupuesto de 1");
+    }
+
+    @Test
+    @DisplayName("Should only log when the budget is exceeded and failing is disabled")
+    void testBudgetExceededLogsOnly() throws Exception {
+        // Given
+        QueryBudgetFilter filter = new QueryBudgetFilter(false, false);
+        MockHttpServletRequest request = requestFor("singleQuery");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When & Then
+        assertThatCode(() -> filter.doFilter(request, response, (req, res) -> {
+            jdbcTemplate.queryForObject("select 1", Integer.class);
+            jdbcTemplate.queryForObject("select 1", Integer.class);
+        })).doesNotThrowAnyException();
+        assertThat(response.getHeader(QueryBudgetFilter.QUERY_COUNT_HEADER)).isNull();
+    }
+
+    private MockHttpServletRequest requestFor(String method) throws NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(this, getClass().getDeclaredMethod(method)));
+        return request;
+    }
+
+    @QueryBudget(1)
+    void singleQuery() {
+    }
+}